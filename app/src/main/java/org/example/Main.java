@@ -0,0 +1,50 @@
+package org.example;
+
+import org.example.controller.EntityController;
+import org.example.service.EntityService;
+import org.example.service.importer.ImportReport;
+import org.example.service.writebehind.WriteBehindConfig;
+import org.example.view.MainFrame;
+
+import javax.swing.*;
+import java.nio.file.Path;
+
+public class Main {
+    public static void main(String[] args) {
+        if (args.length == 2 && "--import".equals(args[0])) {
+            System.exit(runImport(Path.of(args[1])));
+        }
+
+        try {
+            UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        // --write-behind queues edits and commits them in groups; queued writes are
+        // committed before the JVM exits.
+        EntityService service = args.length == 1 && "--write-behind".equals(args[0])
+                ? new EntityService(new WriteBehindConfig())
+                : new EntityService();
+        Runtime.getRuntime().addShutdownHook(new Thread(service::close, "entity-service-shutdown"));
+
+        SwingUtilities.invokeLater(() -> {
+            MainFrame frame = new MainFrame(new EntityController(service));
+            frame.setVisible(true);
+        });
+    }
+
+    // Headless import: java -jar app.jar --import entities.csv
+    private static int runImport(Path file) {
+        try {
+            ImportReport report = new EntityController().importEntities(file, (rowsRead, imported, rejected) ->
+                    System.out.printf("Read %d rows: %d imported, %d rejected%n", rowsRead, imported, rejected));
+            System.out.println(report);
+            report.getRejections().forEach(rejection -> System.err.println("Rejected " + rejection));
+            return report.getRejected() > 0 ? 2 : 0;
+        } catch (Exception e) {
+            System.err.println("Import failed: " + e.getMessage());
+            return 1;
+        }
+    }
+}
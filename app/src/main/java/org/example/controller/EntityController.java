@@ -0,0 +1,220 @@
+package org.example.controller;
+
+import org.example.dao.BulkProgressListener;
+import org.example.dao.CancellationToken;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.example.model.Page;
+import org.example.model.PageCursor;
+import org.example.service.EntityService;
+import org.example.service.importer.ImportFormat;
+import org.example.service.importer.ImportProgressListener;
+import org.example.service.importer.ImportReport;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EntityController {
+    // Matches the connection pool size; more threads would only wait for connections.
+    private static final int WORKER_THREADS = 4;
+    private static final int MAX_QUEUED_CALLS = 64;
+    // Page reads still running after this long are cancelled.
+    private static final long PAGE_QUERY_TIMEOUT_SECONDS = 30;
+
+    private final EntityService entityService;
+    private final ThreadPoolExecutor executor;
+
+    public EntityController() {
+        this(new EntityService());
+    }
+
+    public EntityController(EntityService entityService) {
+        this.entityService = entityService;
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_CALLS), r -> {
+                    Thread thread = new Thread(r, "entity-controller-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    // Async variants run on the controller's worker threads, so the caller (normally the
+    // Swing EDT) never blocks on the database. Failures complete the future exceptionally
+    // instead of being logged, so the caller decides how to report them. Writes complete
+    // once they are committed, also when the service queues them.
+
+    public CompletableFuture<Void> createEntityAsync(String name, String description) {
+        return async(() -> entityService.submitCreate(name, description)).thenCompose(committed -> committed);
+    }
+
+    public CompletableFuture<Page<Entity>> getPageAfterAsync(String search, EntityStatus status, String sortBy,
+                                                             PageCursor after, int pageSize) {
+        return getPageAfterAsync(search, status, sortBy, after, pageSize, new CancellationToken());
+    }
+
+    // Cancelling the token interrupts the query if it is running and skips it if it is
+    // still queued; the future then fails with QueryCancelledException.
+    public CompletableFuture<Page<Entity>> getPageAfterAsync(String search, EntityStatus status, String sortBy,
+                                                             PageCursor after, int pageSize, CancellationToken token) {
+        return withTimeout(async(() -> entityService.getPageAfter(search, status, sortBy, after, pageSize, token)), token);
+    }
+
+    // Offset variant for jumping to an arbitrary page, where no cursor is known.
+    public CompletableFuture<Page<Entity>> getPageAsync(String search, EntityStatus status, String sortBy,
+                                                        int page, int pageSize, CancellationToken token) {
+        return withTimeout(async(() -> entityService.getPage(search, status, sortBy, page, pageSize, token)), token);
+    }
+
+    public CompletableFuture<Void> updateEntityAsync(UUID id, String name, String description, EntityStatus status) {
+        return async(() -> entityService.submitUpdate(id, name, description, status)).thenCompose(committed -> committed);
+    }
+
+    // Saves the changes made to a copy of a row read earlier; fails with
+    // OptimisticLockException if the row was changed or deleted in the meantime.
+    public CompletableFuture<Void> updateEntityAsync(Entity edited) {
+        return async(() -> entityService.submitUpdate(edited)).thenCompose(committed -> committed);
+    }
+
+    public CompletableFuture<Void> deleteEntityAsync(UUID id) {
+        return async(() -> entityService.submitDelete(id)).thenCompose(committed -> committed);
+    }
+
+    private interface Call<T> {
+        T call() throws Exception;
+    }
+
+    private static <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future, CancellationToken token) {
+        CompletableFuture.delayedExecutor(PAGE_QUERY_TIMEOUT_SECONDS, TimeUnit.SECONDS).execute(() -> {
+            if (!future.isDone()) {
+                token.cancel();
+            }
+        });
+        return future;
+    }
+
+    private <T> CompletableFuture<T> async(Call<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(call.call());
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new IllegalStateException("Too many pending database requests", e));
+        }
+        return future;
+    }
+
+    public void createEntity(String name, String description) throws Exception {
+        entityService.createEntity(name, description);
+    }
+
+    public ImportReport importEntities(Path file, ImportProgressListener listener) throws Exception {
+        return entityService.importEntities(file, ImportFormat.fromFileName(file), listener);
+    }
+
+    // Bulk operations run on the caller's thread; interrupting it stops them between chunks.
+
+    public long changeStatus(Collection<UUID> ids, EntityStatus status, BulkProgressListener listener) throws Exception {
+        return entityService.changeStatus(ids, status, listener);
+    }
+
+    public long changeStatusMatching(String search, EntityStatus filterStatus, EntityStatus status,
+                                     BulkProgressListener listener) throws Exception {
+        return entityService.changeStatusMatching(search, filterStatus, status, listener);
+    }
+
+    public long deleteEntities(Collection<UUID> ids, BulkProgressListener listener) throws Exception {
+        return entityService.deleteEntities(ids, listener);
+    }
+
+    public long deleteMatching(String search, EntityStatus filterStatus, BulkProgressListener listener) throws Exception {
+        return entityService.deleteMatching(search, filterStatus, listener);
+    }
+
+    public Entity getEntity(UUID id) throws Exception {
+        return entityService.getEntity(id);
+    }
+
+    public List<Entity> getAllEntities(String search, EntityStatus status, String sortBy, int page, int pageSize) {
+        try {
+            return entityService.getAllEntities(search, status, sortBy, page, pageSize);
+        } catch (Exception e) {
+            showError("Error loading entities: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    public List<Entity> getEntitiesAfter(String search, EntityStatus status, String sortBy, PageCursor after, int pageSize) {
+        try {
+            return entityService.getEntitiesAfter(search, status, sortBy, after, pageSize);
+        } catch (Exception e) {
+            showError("Error loading entities: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    public Page<Entity> getPage(String search, EntityStatus status, String sortBy, int page, int pageSize) {
+        try {
+            return entityService.getPage(search, status, sortBy, page, pageSize);
+        } catch (Exception e) {
+            showError("Error loading entities: " + e.getMessage());
+            return Page.empty();
+        }
+    }
+
+    public Page<Entity> getPageAfter(String search, EntityStatus status, String sortBy, PageCursor after, int pageSize) {
+        try {
+            return entityService.getPageAfter(search, status, sortBy, after, pageSize);
+        } catch (Exception e) {
+            showError("Error loading entities: " + e.getMessage());
+            return Page.empty();
+        }
+    }
+
+    public int getTotalCount(String search, EntityStatus status) {
+        try {
+            return entityService.getTotalCount(search, status);
+        } catch (Exception e) {
+            showError("Error counting entities: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    public void invalidateCaches() {
+        entityService.invalidateCaches();
+    }
+
+    public void updateEntity(UUID id, String name, String description, EntityStatus status) throws Exception {
+        entityService.updateEntity(id, name, description, status);
+    }
+
+    public void updateEntity(Entity edited) throws Exception {
+        entityService.updateEntity(edited);
+    }
+
+    public void deleteEntity(UUID id) throws Exception {
+        entityService.deleteEntity(id);
+    }
+
+    private void showError(String message) {
+        System.err.println(message);
+    }
+}
\ No newline at end of file
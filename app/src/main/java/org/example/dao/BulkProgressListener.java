@@ -0,0 +1,11 @@
+package org.example.dao;
+
+// Called after each committed chunk of a bulk write: rows changed so far, and how much of
+// the work (rows or ids) has been covered out of the total. Returning false stops the
+// write before the next chunk; the chunks already committed stay committed.
+@FunctionalInterface
+public interface BulkProgressListener {
+    BulkProgressListener NONE = (changed, done, total) -> true;
+
+    boolean onProgress(long changed, long done, long total);
+}
@@ -0,0 +1,60 @@
+package org.example.dao;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries a write that failed with SQLITE_BUSY or SQLITE_LOCKED. busy_timeout already
+ * waits inside SQLite, but some conflicts are reported at once (a WAL snapshot that went
+ * stale, a lock held by another process past the timeout); the work is re-run from the
+ * start with exponential backoff and jitter.
+ */
+final class BusyRetry {
+    static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 10;
+    private static final int SQLITE_BUSY = 5;
+    private static final int SQLITE_LOCKED = 6;
+
+    interface Work<T> {
+        T run() throws SQLException;
+    }
+
+    interface Step {
+        void run() throws SQLException;
+    }
+
+    private BusyRetry() {}
+
+    static void run(Step step) throws SQLException {
+        run(() -> {
+            step.run();
+            return null;
+        });
+    }
+
+    static <T> T run(Work<T> work) throws SQLException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return work.run();
+            } catch (SQLException e) {
+                if (!isBusy(e) || attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                long backoff = BASE_BACKOFF_MILLIS << (attempt - 1);
+                try {
+                    Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    e.addSuppressed(interrupted);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // The driver reports the extended result code; its low byte is the primary code.
+    static boolean isBusy(SQLException e) {
+        int code = e.getErrorCode() & 0xff;
+        return code == SQLITE_BUSY || code == SQLITE_LOCKED;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.dao;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Lets another thread abandon a running read. The DAO attaches each statement while it is
+ * executing; cancel() interrupts it with Statement.cancel, and any later statement of the
+ * same operation fails fast with QueryCancelledException.
+ */
+public class CancellationToken {
+    private final Object lock = new Object();
+    private Statement running;
+    private boolean cancelled;
+
+    public void cancel() {
+        synchronized (lock) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            // Under the lock: SQLite interrupts the whole connection, so this must not run
+            // after detach() has let the connection go back to the pool.
+            if (running != null) {
+                try {
+                    running.cancel();
+                } catch (SQLException e) {
+                    System.err.println("Error cancelling query: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    public boolean isCancelled() {
+        synchronized (lock) {
+            return cancelled;
+        }
+    }
+
+    void attach(Statement statement) throws SQLException {
+        synchronized (lock) {
+            if (cancelled) {
+                throw new QueryCancelledException();
+            }
+            running = statement;
+        }
+    }
+
+    void detach() {
+        synchronized (lock) {
+            running = null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.dao;
+
+import org.example.dao.migration.MigrationRunner;
+import org.example.dao.migration.SchemaMigrations;
+import org.example.dao.pool.ConnectionPool;
+import org.example.dao.pool.PoolConfig;
+import org.sqlite.SQLiteConfig;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Connection pools for the application database. getDataSource() hands out general
+ * read-write connections (migrations, maintenance, tests). EntityDao reads through
+ * getReadDataSource() and writes through getWriteDataSource(); in WAL mode those are a
+ * pool of read-only connections and a single writer connection, so readers never wait
+ * for a write and writes never contend with each other inside the process. In
+ * rollback-journal mode all three are the same pool.
+ */
+public class DatabaseConnection {
+    private static StorageConfig storageConfig = new StorageConfig();
+    private static ConnectionPool pool;
+    private static ConnectionPool readers;
+    private static ConnectionPool writer;
+
+    private DatabaseConnection() {}
+
+    // Takes effect the next time the pools are created, i.e. before first use or after
+    // closeConnection().
+    public static synchronized void configure(StorageConfig config) {
+        storageConfig = config;
+    }
+
+    public static synchronized DataSource getDataSource() {
+        if (pool == null) {
+            String url = storageConfig.getUrl();
+            pool = new ConnectionPool(url, connectionConfig(false).toProperties(), new PoolConfig());
+            initializeDatabase();
+            if (storageConfig.getMode() == StorageConfig.Mode.WAL) {
+                PoolConfig readerConfig = new PoolConfig();
+                readerConfig.setMaxSize(storageConfig.getReaderPoolSize());
+                readers = new ConnectionPool(url, connectionConfig(true).toProperties(), readerConfig);
+
+                PoolConfig writerConfig = new PoolConfig();
+                writerConfig.setMaxSize(1);
+                writerConfig.setConnectionTimeoutMillis(storageConfig.getWriterWaitMillis());
+                writer = new ConnectionPool(url, connectionConfig(false).toProperties(), writerConfig);
+            } else {
+                readers = pool;
+                writer = pool;
+            }
+        }
+        return pool;
+    }
+
+    public static synchronized DataSource getReadDataSource() {
+        getDataSource();
+        return readers;
+    }
+
+    public static synchronized DataSource getWriteDataSource() {
+        getDataSource();
+        return writer;
+    }
+
+    public static Connection getConnection() throws SQLException {
+        return getDataSource().getConnection();
+    }
+
+    private static SQLiteConfig connectionConfig(boolean readOnly) {
+        SQLiteConfig config = storageConfig.getProfile().toConfig();
+        config.setBusyTimeout(storageConfig.getBusyTimeoutMillis());
+        if (readOnly) {
+            config.setReadOnly(true);
+        } else {
+            // journal_mode is stored in the database file, so readers pick it up from there.
+            config.setJournalMode(storageConfig.getMode() == StorageConfig.Mode.WAL
+                    ? SQLiteConfig.JournalMode.WAL
+                    : SQLiteConfig.JournalMode.DELETE);
+        }
+        return config;
+    }
+
+    private static void initializeDatabase() {
+        try (Connection connection = pool.getConnection()) {
+            new MigrationRunner(SchemaMigrations.all()).migrate(connection);
+        } catch (SQLException e) {
+            System.err.println("Error initializing database: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    public static synchronized void closeConnection() {
+        if (pool != null) {
+            if (readers != pool) {
+                readers.close();
+                writer.close();
+            }
+            pool.close();
+            pool = null;
+            readers = null;
+            writer = null;
+        }
+    }
+}
@@ -0,0 +1,868 @@
+package org.example.dao;
+
+import org.example.model.BatchResult;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.example.model.Page;
+import org.example.model.PageCursor;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class EntityDao {
+    public static final int DEFAULT_BATCH_CHUNK_SIZE = 500;
+
+    public static final int STREAM_FETCH_SIZE = 500;
+
+    // Rows (by rowid range) or ids per transaction in bulk writes.
+    public static final int BULK_CHUNK_SIZE = 2_000;
+
+    private static final int SQLITE_CONSTRAINT = 19;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO entities (id, name, description, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM entities WHERE id = ?";
+    private static final String VERSION_SQL = "SELECT version FROM entities WHERE id = ?";
+    // No version check; a row that already has these values is not written.
+    private static final String OVERWRITE_SQL = "UPDATE entities SET name = ?, description = ?, status = ?, updated_at = ?,"
+            + " version = version + 1 WHERE id = ? AND (name IS NOT ? OR description IS NOT ? OR status IS NOT ?)";
+    private static final String MAX_ROWID_SQL = "SELECT coalesce(max(rowid), 0) FROM entities";
+    // Ids are passed as one JSON array of hex strings, so a chunk of any size is one statement.
+    private static final String STATUS_BY_IDS_SQL = "UPDATE entities SET status = ?, updated_at = ?, version = version + 1"
+            + " WHERE id IN (SELECT unhex(value) FROM json_each(?)) AND status <> ?";
+    private static final String DELETE_BY_IDS_SQL = "DELETE FROM entities WHERE id IN (SELECT unhex(value) FROM json_each(?))";
+
+    // One conditional UPDATE per combination of changed fields, indexed by a bit per
+    // Entity.Field. Columns that did not change are left out, so their index entries and
+    // triggers (full-text for name and description, counters for status) are not touched.
+    private static final String[] UPDATE_SQL = new String[1 << Entity.Field.values().length];
+
+    static {
+        for (int fields = 1; fields < UPDATE_SQL.length; fields++) {
+            StringBuilder sql = new StringBuilder("UPDATE entities SET ");
+            for (Entity.Field field : Entity.Field.values()) {
+                if ((fields & (1 << field.ordinal())) != 0) {
+                    sql.append(column(field)).append(" = ?, ");
+                }
+            }
+            sql.append("updated_at = ?, version = version + 1 WHERE id = ? AND version = ?");
+            UPDATE_SQL[fields] = sql.toString();
+        }
+    }
+
+    private final DataSource readDataSource;
+    private final DataSource writeDataSource;
+
+    public EntityDao() {
+        this(DatabaseConnection.getReadDataSource(), DatabaseConnection.getWriteDataSource());
+    }
+
+    public EntityDao(DataSource dataSource) {
+        this(dataSource, dataSource);
+    }
+
+    // Reads may use read-only connections; every write goes through writeDataSource and is
+    // retried when the database is busy.
+    public EntityDao(DataSource readDataSource, DataSource writeDataSource) {
+        this.readDataSource = readDataSource;
+        this.writeDataSource = writeDataSource;
+    }
+
+    public void save(Entity entity) throws SQLException {
+        BusyRetry.run(() -> {
+            try (Connection conn = writeDataSource.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+
+                bindInsert(pstmt, entity);
+                pstmt.executeUpdate();
+            }
+        });
+        entity.markClean();
+    }
+
+    public BatchResult saveAll(Collection<Entity> entities) throws SQLException {
+        return saveAll(entities, DEFAULT_BATCH_CHUNK_SIZE);
+    }
+
+    /**
+     * Inserts all entities in one transaction, sending them to the driver in JDBC batches of
+     * chunkSize rows. A row that violates a constraint does not abort the call: its chunk is
+     * rolled back to a savepoint and replayed row by row, and the failing rows are reported.
+     */
+    public BatchResult saveAll(Collection<Entity> entities, int chunkSize) throws SQLException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+
+        return BusyRetry.run(() -> insertAll(entities, chunkSize));
+    }
+
+    private BatchResult insertAll(Collection<Entity> entities, int chunkSize) throws SQLException {
+        BatchResult result = new BatchResult();
+        List<Entity> chunk = new ArrayList<>(Math.min(chunkSize, entities.size()));
+
+        try (Connection conn = writeDataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+
+            conn.setAutoCommit(false);
+            try {
+                int chunkStart = 0;
+                for (Entity entity : entities) {
+                    chunk.add(entity);
+                    if (chunk.size() == chunkSize) {
+                        insertChunk(conn, pstmt, chunk, chunkStart, result);
+                        chunkStart += chunk.size();
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    insertChunk(conn, pstmt, chunk, chunkStart, result);
+                }
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        return result;
+    }
+
+    public Entity findById(UUID id) throws SQLException {
+        String sql = "SELECT " + EntityQuery.COLUMNS + " FROM entities WHERE id = ?";
+
+        try (Connection conn = readDataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setBytes(1, UuidBytes.toBytes(id));
+            ResultSet rs = pstmt.executeQuery();
+
+            if (rs.next()) {
+                return EntityRowMapper.map(rs);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @deprecated materializes the whole table; use {@link #stream(String, EntityStatus, String)}.
+     */
+    @Deprecated
+    public List<Entity> findAll() throws SQLException {
+        try (Stream<Entity> entities = stream(null, null, null)) {
+            return entities.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Lazily streams every matching row from a forward-only result set, so whole-table
+     * consumers run in constant memory. The stream holds a pooled connection (and a read
+     * lock on the database) until it is closed, so use it in try-with-resources; it is also
+     * released as soon as the last row has been read. Read errors surface as
+     * IllegalStateException with the SQLException as cause.
+     */
+    public Stream<Entity> stream(String search, EntityStatus status, String sortBy) throws SQLException {
+        EntityQuery.SearchMode mode = EntityQuery.searchMode(search);
+        String sql = EntityQuery.select(mode, status != null, SortKey.fromSortBy(sortBy));
+
+        Connection conn = readDataSource.getConnection();
+        try {
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setFetchSize(STREAM_FETCH_SIZE);
+            int index = bindFilter(pstmt, mode, search, status);
+            // A negative LIMIT means no limit in SQLite.
+            pstmt.setInt(index++, -1);
+            pstmt.setInt(index, 0);
+
+            EntityCursor cursor = new EntityCursor(conn, pstmt, pstmt.executeQuery());
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (SQLException | RuntimeException e) {
+            conn.close();
+            throw e;
+        }
+    }
+
+    public void forEach(String search, EntityStatus status, String sortBy, Consumer<? super Entity> action) throws SQLException {
+        try (Stream<Entity> entities = stream(search, status, sortBy)) {
+            entities.forEach(action);
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public List<Entity> findAll(String search, EntityStatus status, String sortBy, int offset, int limit) throws SQLException {
+        try (Connection conn = readDataSource.getConnection()) {
+            return findAll(conn, search, status, sortBy, offset, limit, null);
+        }
+    }
+
+    public List<Entity> findAfter(String search, EntityStatus status, String sortBy, PageCursor after, int limit) throws SQLException {
+        try (Connection conn = readDataSource.getConnection()) {
+            return findAfter(conn, search, status, sortBy, after, limit, null);
+        }
+    }
+
+    // Rows and total count are read in one read transaction, so they come from the same
+    // snapshot even if a write lands in between.
+    public Page<Entity> findPage(String search, EntityStatus status, String sortBy, int offset, int limit) throws SQLException {
+        return findPage(search, status, sortBy, offset, limit, null);
+    }
+
+    public Page<Entity> findPage(String search, EntityStatus status, String sortBy, int offset, int limit,
+                                 CancellationToken token) throws SQLException {
+        try (Connection conn = readDataSource.getConnection()) {
+            return readPage(conn, search, status, () -> findAll(conn, search, status, sortBy, offset, limit, token), token);
+        }
+    }
+
+    public Page<Entity> findPageAfter(String search, EntityStatus status, String sortBy, PageCursor after, int limit) throws SQLException {
+        return findPageAfter(search, status, sortBy, after, limit, null);
+    }
+
+    // Cancelling the token abandons the read with QueryCancelledException.
+    public Page<Entity> findPageAfter(String search, EntityStatus status, String sortBy, PageCursor after, int limit,
+                                      CancellationToken token) throws SQLException {
+        try (Connection conn = readDataSource.getConnection()) {
+            return readPage(conn, search, status, () -> findAfter(conn, search, status, sortBy, after, limit, token), token);
+        }
+    }
+
+    // Relevance-ranked search: every whitespace-separated term must occur in the name or
+    // description (as a substring, so prefixes match too); best bm25 score first. Terms
+    // shorter than a trigram are matched with LIKE instead of the full-text index.
+    public List<Entity> search(String query, EntityStatus status, int offset, int limit) throws SQLException {
+        if (!EntityQuery.hasSearch(query)) {
+            return findAll(query, status, null, offset, limit);
+        }
+        StringBuilder match = new StringBuilder();
+        List<String> shortTerms = new ArrayList<>();
+        for (String term : query.trim().split("\\s+")) {
+            if (term.codePointCount(0, term.length()) >= EntityQuery.MIN_FULL_TEXT_LENGTH) {
+                match.append(match.length() > 0 ? " AND " : "").append(EntityQuery.phrase(term));
+            } else {
+                shortTerms.add(term);
+            }
+        }
+
+        List<Entity> entities = new ArrayList<>();
+        boolean fullText = match.length() > 0;
+        try (Connection conn = readDataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     EntityQuery.ranked(fullText, shortTerms.size(), status != null))) {
+
+            int index = 1;
+            if (fullText) {
+                pstmt.setString(index++, match.toString());
+            }
+            for (String term : shortTerms) {
+                String searchPattern = "%" + term + "%";
+                pstmt.setString(index++, searchPattern);
+                pstmt.setString(index++, searchPattern);
+            }
+            if (status != null) {
+                pstmt.setInt(index++, status.code());
+            }
+            pstmt.setInt(index++, limit);
+            pstmt.setInt(index, offset);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    entities.add(EntityRowMapper.map(rs));
+                }
+            }
+        }
+        return entities;
+    }
+
+    public int count(String search, EntityStatus status) throws SQLException {
+        try (Connection conn = readDataSource.getConnection()) {
+            return count(conn, search, status, null);
+        }
+    }
+
+    /**
+     * Writes the changed fields of the entity in one statement, provided the stored row still
+     * has the entity's version; otherwise nothing is written and OptimisticLockException is
+     * thrown. An entity without changes is not written at all. On success the entity carries
+     * the new version and updated_at; on failure it is left as it was.
+     */
+    public void update(Entity entity) throws SQLException {
+        if (!entity.hasChanges()) {
+            return;
+        }
+        long updatedAt = System.currentTimeMillis();
+        BusyRetry.run(() -> {
+            try (Connection conn = writeDataSource.getConnection()) {
+                if (!executeUpdate(conn, entity, updatedAt)) {
+                    throw versionConflict(conn, entity);
+                }
+            }
+        });
+        entity.setUpdatedAtMillis(updatedAt);
+        entity.setVersion(entity.getVersion() + 1);
+        entity.markClean();
+    }
+
+    /**
+     * Sets the name, description and status of the row whatever version it has, for callers
+     * that never read one: one statement, no prior read. A row that already has these values
+     * is left alone. False if no row has the id.
+     */
+    public boolean overwrite(UUID id, String name, String description, EntityStatus status) throws SQLException {
+        Entity values = new Entity(id, name, description, status, Entity.NO_TIMESTAMP, System.currentTimeMillis());
+        return BusyRetry.run(() -> {
+            try (Connection conn = writeDataSource.getConnection()) {
+                return executeOverwrite(conn, values) || exists(conn, id);
+            }
+        });
+    }
+
+    public void delete(UUID id) throws SQLException {
+        BusyRetry.run(() -> {
+            try (Connection conn = writeDataSource.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+
+                pstmt.setBytes(1, UuidBytes.toBytes(id));
+                pstmt.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Sets the status of every row matching the filter, walking the table in rowid ranges of
+     * chunkSize with one set-based UPDATE (its own transaction) per range, so other writers
+     * get in between chunks. Rows that already have the new status are not written; rows
+     * added after the call started are left alone. The listener can stop it between chunks;
+     * interrupting the thread does the same with QueryCancelledException. Either way the
+     * chunks already committed stay committed. Returns the number of rows changed.
+     */
+    public long updateStatusMatching(String search, EntityStatus filterStatus, EntityStatus newStatus, int chunkSize,
+                                     BulkProgressListener listener) throws SQLException {
+        if (newStatus == filterStatus) {
+            return 0;
+        }
+        EntityQuery.SearchMode mode = EntityQuery.searchMode(search);
+        String sql = EntityQuery.bulkUpdateStatus(mode, filterStatus != null);
+        int statusCode = filterStatus != null ? filterStatus.code() : newStatus.code();
+
+        return walkRowids(sql, chunkSize, listener, (pstmt, from, to) -> {
+            pstmt.setInt(1, newStatus.code());
+            pstmt.setLong(2, System.currentTimeMillis());
+            pstmt.setInt(3, statusCode);
+            bindBulkFilter(pstmt, 4, mode, search, from, to);
+        });
+    }
+
+    // Deletes every row matching the filter, chunked like updateStatusMatching.
+    public long deleteMatching(String search, EntityStatus filterStatus, int chunkSize,
+                               BulkProgressListener listener) throws SQLException {
+        EntityQuery.SearchMode mode = EntityQuery.searchMode(search);
+        String sql = EntityQuery.bulkDelete(mode, filterStatus != null);
+
+        return walkRowids(sql, chunkSize, listener, (pstmt, from, to) -> {
+            int index = 1;
+            if (filterStatus != null) {
+                pstmt.setInt(index++, filterStatus.code());
+            }
+            bindBulkFilter(pstmt, index, mode, search, from, to);
+        });
+    }
+
+    // Sets the status of the given rows, chunkSize ids per statement and transaction.
+    public long updateStatus(Collection<UUID> ids, EntityStatus newStatus, int chunkSize,
+                             BulkProgressListener listener) throws SQLException {
+        return walkIds(STATUS_BY_IDS_SQL, ids, chunkSize, listener, (pstmt, idArray) -> {
+            pstmt.setInt(1, newStatus.code());
+            pstmt.setLong(2, System.currentTimeMillis());
+            pstmt.setString(3, idArray);
+            pstmt.setInt(4, newStatus.code());
+        });
+    }
+
+    public long deleteAll(Collection<UUID> ids, int chunkSize, BulkProgressListener listener) throws SQLException {
+        return walkIds(DELETE_BY_IDS_SQL, ids, chunkSize, listener, (pstmt, idArray) -> pstmt.setString(1, idArray));
+    }
+
+    private interface RangeBinder {
+        void bind(PreparedStatement pstmt, long fromRowid, long toRowid) throws SQLException;
+    }
+
+    private interface IdsBinder {
+        void bind(PreparedStatement pstmt, String idArray) throws SQLException;
+    }
+
+    private long walkRowids(String sql, int chunkSize, BulkProgressListener listener, RangeBinder binder) throws SQLException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        long maxRowid;
+        try (Connection conn = readDataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(MAX_ROWID_SQL)) {
+            maxRowid = rs.next() ? rs.getLong(1) : 0;
+        }
+
+        long changed = 0;
+        for (long from = 0; from < maxRowid; from += chunkSize) {
+            checkInterrupted();
+            long chunkStart = from;
+            long to = Math.min(from + chunkSize, maxRowid);
+            changed += BusyRetry.run(() -> {
+                try (Connection conn = writeDataSource.getConnection();
+                     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    binder.bind(pstmt, chunkStart, to);
+                    return pstmt.executeUpdate();
+                }
+            });
+            if (!listener.onProgress(changed, to, maxRowid)) {
+                break;
+            }
+        }
+        return changed;
+    }
+
+    private long walkIds(String sql, Collection<UUID> ids, int chunkSize, BulkProgressListener listener,
+                         IdsBinder binder) throws SQLException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        long changed = 0;
+        long done = 0;
+        StringBuilder idArray = new StringBuilder();
+        int inChunk = 0;
+        for (UUID id : ids) {
+            idArray.append(inChunk == 0 ? "[\"" : ",\"").append(UuidBytes.toHex(id)).append('"');
+            done++;
+            if (++inChunk == chunkSize || done == ids.size()) {
+                checkInterrupted();
+                String chunk = idArray.append(']').toString();
+                changed += BusyRetry.run(() -> {
+                    try (Connection conn = writeDataSource.getConnection();
+                         PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                        binder.bind(pstmt, chunk);
+                        return pstmt.executeUpdate();
+                    }
+                });
+                if (!listener.onProgress(changed, done, ids.size())) {
+                    break;
+                }
+                idArray.setLength(0);
+                inChunk = 0;
+            }
+        }
+        return changed;
+    }
+
+    private static void checkInterrupted() throws QueryCancelledException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new QueryCancelledException();
+        }
+    }
+
+    // Binds the search parameter of a bulk shape and the rowid range; see EntityQuery.bulkUpdateStatus.
+    private static void bindBulkFilter(PreparedStatement pstmt, int index, EntityQuery.SearchMode mode, String search,
+                                       long fromRowid, long toRowid) throws SQLException {
+        if (mode == EntityQuery.SearchMode.FULL_TEXT) {
+            pstmt.setString(index++, EntityQuery.phrase(search));
+        } else if (mode == EntityQuery.SearchMode.LIKE) {
+            String searchPattern = "%" + search + "%";
+            pstmt.setString(index++, searchPattern);
+            pstmt.setString(index++, searchPattern);
+        }
+        pstmt.setLong(index++, fromRowid);
+        pstmt.setLong(index, toRowid);
+    }
+
+    /**
+     * Applies the writes in order in one transaction, so they share a single commit. A write
+     * that violates a constraint, finds a different version or finds no row to overwrite
+     * (OptimisticLockException) fails alone; element i of the result is the failure of
+     * writes.get(i), or null. Any other error rolls back the whole group and is thrown.
+     * Updates follow update(), except that the entities are left as they are.
+     */
+    public SQLException[] applyAll(List<EntityWrite> writes) throws SQLException {
+        return BusyRetry.run(() -> applyInTransaction(writes));
+    }
+
+    private SQLException[] applyInTransaction(List<EntityWrite> writes) throws SQLException {
+        SQLException[] failures = new SQLException[writes.size()];
+
+        try (Connection conn = writeDataSource.getConnection();
+             PreparedStatement insert = conn.prepareStatement(INSERT_SQL);
+             PreparedStatement delete = conn.prepareStatement(DELETE_SQL)) {
+
+            conn.setAutoCommit(false);
+            try {
+                for (int i = 0; i < writes.size(); i++) {
+                    EntityWrite write = writes.get(i);
+                    try {
+                        switch (write.getKind()) {
+                            case INSERT:
+                                bindInsert(insert, write.getEntity());
+                                insert.executeUpdate();
+                                break;
+                            case UPDATE:
+                                if (write.getEntity().hasChanges()
+                                        && !executeUpdate(conn, write.getEntity(), write.getEntity().getUpdatedAtMillis())) {
+                                    failures[i] = versionConflict(conn, write.getEntity());
+                                }
+                                break;
+                            case OVERWRITE:
+                                if (!executeOverwrite(conn, write.getEntity()) && !exists(conn, write.getId())) {
+                                    failures[i] = new OptimisticLockException(write.getId(), write.getEntity().getVersion(), true);
+                                }
+                                break;
+                            case DELETE:
+                                delete.setBytes(1, UuidBytes.toBytes(write.getId()));
+                                delete.executeUpdate();
+                                break;
+                        }
+                    } catch (SQLException e) {
+                        if (!isConstraintViolation(e)) {
+                            throw e;
+                        }
+                        failures[i] = e;
+                    }
+                }
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        return failures;
+    }
+
+    private void insertChunk(Connection conn, PreparedStatement pstmt, List<Entity> chunk, int chunkStart,
+                             BatchResult result) throws SQLException {
+        Savepoint savepoint = conn.setSavepoint();
+        try {
+            for (Entity entity : chunk) {
+                bindInsert(pstmt, entity);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+            conn.releaseSavepoint(savepoint);
+            result.addSaved(chunk.size());
+            return;
+        } catch (SQLException e) {
+            if (!isConstraintViolation(e)) {
+                throw e;
+            }
+            pstmt.clearBatch();
+            conn.rollback(savepoint);
+            conn.releaseSavepoint(savepoint);
+        }
+
+        // A failed single-row INSERT leaves the rest of the transaction intact.
+        for (int i = 0; i < chunk.size(); i++) {
+            Entity entity = chunk.get(i);
+            try {
+                bindInsert(pstmt, entity);
+                pstmt.executeUpdate();
+                result.addSaved(1);
+            } catch (SQLException e) {
+                if (!isConstraintViolation(e)) {
+                    throw e;
+                }
+                result.addFailure(chunkStart + i, entity, e.getMessage());
+            }
+        }
+    }
+
+    // The SQLite driver reports the (extended) result code as the vendor code.
+    private static boolean isConstraintViolation(SQLException e) {
+        return (e.getErrorCode() & 0xff) == SQLITE_CONSTRAINT;
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Entity entity) throws SQLException {
+        pstmt.setBytes(1, UuidBytes.toBytes(entity.getId()));
+        pstmt.setString(2, entity.getName());
+        pstmt.setString(3, entity.getDescription());
+        pstmt.setInt(4, entity.getStatus().code());
+        bindTimestamp(pstmt, 5, entity.getCreatedAtMillis());
+        bindTimestamp(pstmt, 6, entity.getUpdatedAtMillis());
+    }
+
+    // A missing timestamp is bound as NULL, which the NOT NULL columns reject.
+    private static void bindTimestamp(PreparedStatement pstmt, int index, long millis) throws SQLException {
+        if (millis == Entity.NO_TIMESTAMP) {
+            pstmt.setNull(index, Types.INTEGER);
+        } else {
+            pstmt.setLong(index, millis);
+        }
+    }
+
+    // Runs the conditional UPDATE for the entity's changed fields; false if no row has its
+    // id and version.
+    private static boolean executeUpdate(Connection conn, Entity entity, long updatedAtMillis) throws SQLException {
+        int fields = 0;
+        for (Entity.Field field : Entity.Field.values()) {
+            if (entity.isChanged(field)) {
+                fields |= 1 << field.ordinal();
+            }
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL[fields])) {
+            int index = 1;
+            if (entity.isChanged(Entity.Field.NAME)) {
+                pstmt.setString(index++, entity.getName());
+            }
+            if (entity.isChanged(Entity.Field.DESCRIPTION)) {
+                pstmt.setString(index++, entity.getDescription());
+            }
+            if (entity.isChanged(Entity.Field.STATUS)) {
+                pstmt.setInt(index++, entity.getStatus().code());
+            }
+            pstmt.setLong(index++, updatedAtMillis);
+            pstmt.setBytes(index++, UuidBytes.toBytes(entity.getId()));
+            pstmt.setLong(index, entity.getVersion());
+            return pstmt.executeUpdate() == 1;
+        }
+    }
+
+    // False if no row has the id or the row already has the entity's values.
+    private static boolean executeOverwrite(Connection conn, Entity entity) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(OVERWRITE_SQL)) {
+            pstmt.setString(1, entity.getName());
+            pstmt.setString(2, entity.getDescription());
+            pstmt.setInt(3, entity.getStatus().code());
+            pstmt.setLong(4, entity.getUpdatedAtMillis());
+            pstmt.setBytes(5, UuidBytes.toBytes(entity.getId()));
+            pstmt.setString(6, entity.getName());
+            pstmt.setString(7, entity.getDescription());
+            pstmt.setInt(8, entity.getStatus().code());
+            return pstmt.executeUpdate() == 1;
+        }
+    }
+
+    // Only reached when an overwrite matched no row, to tell unchanged values from a missing row.
+    private static boolean exists(Connection conn, UUID id) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(VERSION_SQL)) {
+            pstmt.setBytes(1, UuidBytes.toBytes(id));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    // Only reached when an update matched no row, to tell a stale version from a deleted row.
+    private static OptimisticLockException versionConflict(Connection conn, Entity entity) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(VERSION_SQL)) {
+            pstmt.setBytes(1, UuidBytes.toBytes(entity.getId()));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return new OptimisticLockException(entity.getId(), entity.getVersion(), !rs.next());
+            }
+        }
+    }
+
+    private static String column(Entity.Field field) {
+        switch (field) {
+            case NAME:
+                return "name";
+            case DESCRIPTION:
+                return "description";
+            default:
+                return "status";
+        }
+    }
+
+    private class EntityCursor extends Spliterators.AbstractSpliterator<Entity> {
+        private final Connection conn;
+        private final PreparedStatement pstmt;
+        private final ResultSet rs;
+        private boolean closed;
+
+        EntityCursor(Connection conn, PreparedStatement pstmt, ResultSet rs) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.pstmt = pstmt;
+            this.rs = rs;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entity> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(EntityRowMapper.map(rs));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new IllegalStateException("Error reading entities: " + e.getMessage(), e);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try (conn; pstmt; rs) {
+                // Closed in reverse order by try-with-resources.
+            } catch (SQLException e) {
+                System.err.println("Error closing entity stream: " + e.getMessage());
+            }
+        }
+    }
+
+    private interface RowsQuery {
+        List<Entity> load() throws SQLException;
+    }
+
+    private Page<Entity> readPage(Connection conn, String search, EntityStatus status, RowsQuery rows,
+                                  CancellationToken token) throws SQLException {
+        conn.setAutoCommit(false);
+        try {
+            List<Entity> items = rows.load();
+            int totalCount = count(conn, search, status, token);
+            conn.commit();
+            return new Page<>(items, totalCount);
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private List<Entity> findAll(Connection conn, String search, EntityStatus status, String sortBy, int offset, int limit,
+                                 CancellationToken token) throws SQLException {
+        EntityQuery.SearchMode mode = EntityQuery.searchMode(search);
+        String sql = EntityQuery.select(mode, status != null, SortKey.fromSortBy(sortBy));
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = bindFilter(pstmt, mode, search, status);
+            pstmt.setInt(index++, limit);
+            pstmt.setInt(index, offset);
+
+            return readRows(pstmt, token);
+        }
+    }
+
+    private List<Entity> findAfter(Connection conn, String search, EntityStatus status, String sortBy, PageCursor after, int limit,
+                                   CancellationToken token) throws SQLException {
+        if (after == null) {
+            return findAll(conn, search, status, sortBy, 0, limit, token);
+        }
+
+        SortKey sort = SortKey.fromSortBy(sortBy);
+        EntityQuery.SearchMode mode = EntityQuery.searchMode(search);
+        String sql = EntityQuery.seek(mode, status != null, sort);
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = bindFilter(pstmt, mode, search, status);
+            index = bindCursor(pstmt, index, sort, after);
+            pstmt.setInt(index, limit);
+
+            return readRows(pstmt, token);
+        }
+    }
+
+    private int count(Connection conn, String search, EntityStatus status, CancellationToken token) throws SQLException {
+        EntityQuery.SearchMode mode = EntityQuery.searchMode(search);
+        String sql = EntityQuery.count(mode, status != null);
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            bindFilter(pstmt, mode, search, status);
+
+            attach(token, pstmt);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            } catch (SQLException e) {
+                throw cancelledOr(e, token);
+            } finally {
+                detach(token);
+            }
+        }
+    }
+
+    private static List<Entity> readRows(PreparedStatement pstmt, CancellationToken token) throws SQLException {
+        attach(token, pstmt);
+        try (ResultSet rs = pstmt.executeQuery()) {
+            List<Entity> entities = new ArrayList<>();
+            while (rs.next()) {
+                entities.add(EntityRowMapper.map(rs));
+            }
+            return entities;
+        } catch (SQLException e) {
+            throw cancelledOr(e, token);
+        } finally {
+            detach(token);
+        }
+    }
+
+    // The token is detached before the statement is closed and the connection is released.
+    private static void attach(CancellationToken token, Statement statement) throws SQLException {
+        if (token != null) {
+            token.attach(statement);
+        }
+    }
+
+    private static void detach(CancellationToken token) {
+        if (token != null) {
+            token.detach();
+        }
+    }
+
+    // A cancelled statement fails with SQLITE_INTERRUPT; report that as a cancellation.
+    private static SQLException cancelledOr(SQLException e, CancellationToken token) {
+        if (token != null && token.isCancelled() && !(e instanceof QueryCancelledException)) {
+            return new QueryCancelledException(e);
+        }
+        return e;
+    }
+
+    // Binds the filter parameters of an EntityQuery shape and returns the next free index.
+    private static int bindFilter(PreparedStatement pstmt, EntityQuery.SearchMode mode, String search,
+                                  EntityStatus status) throws SQLException {
+        int index = 1;
+        if (mode == EntityQuery.SearchMode.FULL_TEXT) {
+            pstmt.setString(index++, EntityQuery.phrase(search));
+        } else if (mode == EntityQuery.SearchMode.LIKE) {
+            String searchPattern = "%" + search + "%";
+            pstmt.setString(index++, searchPattern);
+            pstmt.setString(index++, searchPattern);
+        }
+        if (status != null) {
+            pstmt.setInt(index++, status.code());
+        }
+        return index;
+    }
+
+    private static int bindCursor(PreparedStatement pstmt, int index, SortKey sort, PageCursor cursor) throws SQLException {
+        switch (sort) {
+            case NAME:
+                pstmt.setString(index++, cursor.getName());
+                break;
+            case UPDATED_AT_DESC:
+                pstmt.setLong(index++, cursor.getUpdatedAt());
+                break;
+            default:
+                pstmt.setLong(index++, cursor.getCreatedAt());
+        }
+        pstmt.setBytes(index++, UuidBytes.toBytes(cursor.getId()));
+        return index;
+    }
+}
\ No newline at end of file
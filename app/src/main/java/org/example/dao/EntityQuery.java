@@ -0,0 +1,189 @@
+package org.example.dao;
+
+/**
+ * SQL for every findAll/count filter shape, built once. A shape is the combination of
+ * search mode, status present/absent and sort key; the SQL text of a shape never changes,
+ * so the pool's per-connection statement cache can reuse its statement.
+ */
+final class EntityQuery {
+
+    enum SearchMode {
+        NONE(null),
+        // Terms shorter than a trigram cannot use the full-text index.
+        LIKE("(name LIKE ? OR description LIKE ?)"),
+        FULL_TEXT("rowid IN (SELECT rowid FROM entities_fts WHERE entities_fts MATCH ?)");
+
+        private final String filter;
+
+        SearchMode(String filter) {
+            this.filter = filter;
+        }
+    }
+
+    static final int MIN_FULL_TEXT_LENGTH = 3;
+
+    // Every query selects exactly these columns in this order, so EntityRowMapper can read
+    // them by position.
+    static final String COLUMNS = "id, name, description, status, created_at, updated_at, version";
+
+    private static final String STATUS_FILTER = "status = ?";
+    private static final String TERM_FILTER = " AND (e.name LIKE ? OR e.description LIKE ?)";
+    private static final String STATS_TOTAL_SQL = "SELECT coalesce(sum(row_count), 0) FROM entity_stats";
+    private static final String STATS_STATUS_SQL = "SELECT row_count FROM entity_stats WHERE status = ?";
+    private static final int FILTER_SHAPES = SearchMode.values().length * 2;
+
+    private static final String[] COUNT_SQL = new String[FILTER_SHAPES];
+    private static final String[] SELECT_SQL = new String[FILTER_SHAPES * SortKey.values().length];
+    private static final String[] SEEK_SQL = new String[FILTER_SHAPES * SortKey.values().length];
+    private static final String[] RANKED_SQL = new String[2];
+    private static final String[] BULK_STATUS_SQL = new String[FILTER_SHAPES];
+    private static final String[] BULK_DELETE_SQL = new String[FILTER_SHAPES];
+
+    static {
+        for (SearchMode search : SearchMode.values()) {
+            for (boolean status : new boolean[]{false, true}) {
+                int filter = filterIndex(search, status);
+                COUNT_SQL[filter] = "SELECT COUNT(*) FROM entities" + whereClause(search, status, null);
+                for (SortKey sort : SortKey.values()) {
+                    SELECT_SQL[sort.ordinal() * FILTER_SHAPES + filter] = "SELECT " + COLUMNS + " FROM entities"
+                            + whereClause(search, status, null) + " " + sort.orderBy() + " LIMIT ? OFFSET ?";
+                    SEEK_SQL[sort.ordinal() * FILTER_SHAPES + filter] = "SELECT " + COLUMNS + " FROM entities"
+                            + whereClause(search, status, sort.seekCondition()) + " " + sort.orderBy() + " LIMIT ?";
+                }
+            }
+        }
+
+        for (SearchMode search : SearchMode.values()) {
+            for (boolean status : new boolean[]{false, true}) {
+                int filter = filterIndex(search, status);
+                // Without a status filter, rows that already have the new status are skipped.
+                BULK_STATUS_SQL[filter] = "UPDATE entities SET status = ?, updated_at = ?, version = version + 1"
+                        + bulkWhereClause(search, status ? "+status = ?" : "status <> ?");
+                BULK_DELETE_SQL[filter] = "DELETE FROM entities" + bulkWhereClause(search, status ? "+status = ?" : null);
+            }
+        }
+
+        String ranked = "SELECT e.id, e.name, e.description, e.status, e.created_at, e.updated_at, e.version"
+                + " FROM entities_fts JOIN entities e ON e.rowid = entities_fts.rowid"
+                + " WHERE entities_fts MATCH ?";
+        String order = " ORDER BY bm25(entities_fts), e.id LIMIT ? OFFSET ?";
+        RANKED_SQL[0] = ranked + order;
+        RANKED_SQL[1] = ranked + " AND e.status = ?" + order;
+    }
+
+    private EntityQuery() {}
+
+    static boolean hasSearch(String search) {
+        return search != null && !search.trim().isEmpty();
+    }
+
+    static SearchMode searchMode(String search) {
+        if (!hasSearch(search)) {
+            return SearchMode.NONE;
+        }
+        return search.codePointCount(0, search.length()) >= MIN_FULL_TEXT_LENGTH
+                ? SearchMode.FULL_TEXT
+                : SearchMode.LIKE;
+    }
+
+    // A quoted FTS5 phrase; with the trigram tokenizer it matches the term as a substring,
+    // case-insensitively, exactly like LIKE '%term%'.
+    static String phrase(String term) {
+        return "\"" + term.replace("\"", "\"\"") + "\"";
+    }
+
+    static String select(SearchMode search, boolean status, SortKey sort) {
+        return SELECT_SQL[sort.ordinal() * FILTER_SHAPES + filterIndex(search, status)];
+    }
+
+    // Keyset variant of select(): filter parameters, then (sort value, id) of the last seen row, then limit.
+    static String seek(SearchMode search, boolean status, SortKey sort) {
+        return SEEK_SQL[sort.ordinal() * FILTER_SHAPES + filterIndex(search, status)];
+    }
+
+    // Without a search term the trigger-maintained counters answer the count; the status
+    // code, if any, is the only parameter either way.
+    static String count(SearchMode search, boolean status) {
+        if (search == SearchMode.NONE) {
+            return status ? STATS_STATUS_SQL : STATS_TOTAL_SQL;
+        }
+        return COUNT_SQL[filterIndex(search, status)];
+    }
+
+    // Full-text match ordered by bm25 relevance: match expression, optional status, limit, offset.
+    static String ranked(boolean status) {
+        return RANKED_SQL[status ? 1 : 0];
+    }
+
+    // Search terms shorter than a trigram cannot go into a MATCH expression; each becomes a
+    // LIKE condition on the row. Parameters: match expression (only if fullText), two LIKE
+    // patterns per short term, optional status, limit, offset. Without a full-text term there
+    // is nothing to rank by, so rows come in the default order.
+    static String ranked(boolean fullText, int shortTerms, boolean status) {
+        if (fullText && shortTerms == 0) {
+            return ranked(status);
+        }
+        StringBuilder sql = new StringBuilder("SELECT e.id, e.name, e.description, e.status, e.created_at,"
+                + " e.updated_at, e.version");
+        if (fullText) {
+            sql.append(" FROM entities_fts JOIN entities e ON e.rowid = entities_fts.rowid WHERE entities_fts MATCH ?");
+        } else {
+            sql.append(" FROM entities e WHERE 1");
+        }
+        for (int i = 0; i < shortTerms; i++) {
+            sql.append(TERM_FILTER);
+        }
+        if (status) {
+            sql.append(" AND e.status = ?");
+        }
+        sql.append(fullText ? " ORDER BY bm25(entities_fts), e.id" : " " + SortKey.CREATED_AT_DESC.orderBy());
+        return sql.append(" LIMIT ? OFFSET ?").toString();
+    }
+
+    // Set-based writes over one rowid range of the table: SET values, status, search, then
+    // the range bounds (exclusive, inclusive).
+    static String bulkUpdateStatus(SearchMode search, boolean status) {
+        return BULK_STATUS_SQL[filterIndex(search, status)];
+    }
+
+    // Status, search, then the range bounds (exclusive, inclusive).
+    static String bulkDelete(SearchMode search, boolean status) {
+        return BULK_DELETE_SQL[filterIndex(search, status)];
+    }
+
+    private static int filterIndex(SearchMode search, boolean status) {
+        return search.ordinal() * 2 + (status ? 1 : 0);
+    }
+
+    private static String whereClause(SearchMode search, boolean status, String seek) {
+        StringBuilder where = new StringBuilder();
+        if (search.filter != null) {
+            where.append(search.filter);
+        }
+        if (status) {
+            where.append(where.length() > 0 ? " AND " : "").append(STATUS_FILTER);
+        }
+        if (seek != null) {
+            where.append(where.length() > 0 ? " AND " : "").append(seek);
+        }
+        return where.length() > 0 ? " WHERE " + where : "";
+    }
+
+    // The rowid range drives every shape: the unary plus keeps the planner off the status
+    // indexes, and the full-text subquery gets the range too, so each chunk reads only its
+    // slice of the index instead of every match.
+    private static String bulkWhereClause(SearchMode search, String statusCondition) {
+        StringBuilder where = new StringBuilder(" WHERE ");
+        if (statusCondition != null) {
+            where.append(statusCondition).append(" AND ");
+        }
+        if (search == SearchMode.FULL_TEXT) {
+            return where.append("rowid IN (SELECT rowid FROM entities_fts WHERE entities_fts MATCH ?")
+                    .append(" AND rowid > ? AND rowid <= ?)").toString();
+        }
+        if (search.filter != null) {
+            where.append(search.filter).append(" AND ");
+        }
+        return where.append("rowid > ? AND rowid <= ?").toString();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.dao;
+
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// Decodes a row selected with EntityQuery.COLUMNS. Columns are read by position, so there
+// is no per-row name lookup, and timestamps stay epoch millis until someone asks for them.
+final class EntityRowMapper {
+    private static final int ID = 1;
+    private static final int NAME = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int STATUS = 4;
+    private static final int CREATED_AT = 5;
+    private static final int UPDATED_AT = 6;
+    private static final int VERSION = 7;
+
+    private EntityRowMapper() {}
+
+    static Entity map(ResultSet rs) throws SQLException {
+        return new Entity(
+                UuidBytes.fromBytes(rs.getBytes(ID)),
+                rs.getString(NAME),
+                rs.getString(DESCRIPTION),
+                EntityStatus.fromCode(rs.getInt(STATUS)),
+                rs.getLong(CREATED_AT),
+                rs.getLong(UPDATED_AT),
+                rs.getLong(VERSION));
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.dao;
+
+import org.example.model.Entity;
+
+import java.util.UUID;
+
+/**
+ * One insert, update, overwrite or delete, for applying several writes in a single
+ * transaction with EntityDao.applyAll. Timestamps are written exactly as the entity carries
+ * them; an update writes the entity's changed fields and only applies to the version the
+ * entity carries. An overwrite follows EntityDao.overwrite: it sets the entity's name,
+ * description and status whatever version is stored, and fails if the row is gone.
+ */
+public final class EntityWrite {
+
+    public enum Kind { INSERT, UPDATE, OVERWRITE, DELETE }
+
+    private final Kind kind;
+    private final UUID id;
+    private final Entity entity;
+
+    private EntityWrite(Kind kind, UUID id, Entity entity) {
+        this.kind = kind;
+        this.id = id;
+        this.entity = entity;
+    }
+
+    public static EntityWrite insert(Entity entity) {
+        return new EntityWrite(Kind.INSERT, entity.getId(), entity);
+    }
+
+    public static EntityWrite update(Entity entity) {
+        return new EntityWrite(Kind.UPDATE, entity.getId(), entity);
+    }
+
+    // Only the entity's id, name, description, status and updated_at are written.
+    public static EntityWrite overwrite(Entity entity) {
+        return new EntityWrite(Kind.OVERWRITE, entity.getId(), entity);
+    }
+
+    public static EntityWrite delete(UUID id) {
+        return new EntityWrite(Kind.DELETE, id, null);
+    }
+
+    public Kind getKind() { return kind; }
+
+    public UUID getId() { return id; }
+
+    // Null for deletes.
+    public Entity getEntity() { return entity; }
+}
@@ -0,0 +1,27 @@
+package org.example.dao;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+// An update expected a version of the row that is no longer stored: someone else updated
+// or deleted it since it was read. Nothing was written.
+public class OptimisticLockException extends SQLException {
+    private final UUID entityId;
+    private final long expectedVersion;
+    private final boolean deleted;
+
+    public OptimisticLockException(UUID entityId, long expectedVersion, boolean deleted) {
+        super(deleted
+                ? "Entity " + entityId + " was deleted by someone else"
+                : "Entity " + entityId + " was changed by someone else; reload it and try again");
+        this.entityId = entityId;
+        this.expectedVersion = expectedVersion;
+        this.deleted = deleted;
+    }
+
+    public UUID getEntityId() { return entityId; }
+
+    public long getExpectedVersion() { return expectedVersion; }
+
+    public boolean isDeleted() { return deleted; }
+}
@@ -0,0 +1,13 @@
+package org.example.dao;
+
+import java.sql.SQLException;
+
+public class QueryCancelledException extends SQLException {
+    public QueryCancelledException() {
+        super("Query was cancelled");
+    }
+
+    public QueryCancelledException(Throwable cause) {
+        super("Query was cancelled", cause);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.dao;
+
+// Every order ends with id so that rows with equal sort values have a stable order
+// and (sort value, id) can be used as a keyset cursor.
+enum SortKey {
+    NAME("name", false),
+    CREATED_AT("created_at", false),
+    UPDATED_AT_DESC("updated_at", true),
+    CREATED_AT_DESC("created_at", true);
+
+    private final String column;
+    private final boolean descending;
+
+    SortKey(String column, boolean descending) {
+        this.column = column;
+        this.descending = descending;
+    }
+
+    String column() {
+        return column;
+    }
+
+    String orderBy() {
+        return descending
+                ? "ORDER BY " + column + " DESC, id DESC"
+                : "ORDER BY " + column + ", id";
+    }
+
+    String seekCondition() {
+        return "(" + column + ", id) " + (descending ? "<" : ">") + " (?, ?)";
+    }
+
+    static SortKey fromSortBy(String sortBy) {
+        if (sortBy == null) {
+            return CREATED_AT_DESC;
+        }
+        switch (sortBy) {
+            case "name":
+                return NAME;
+            case "createdAt":
+                return CREATED_AT;
+            case "updatedAt":
+                return UPDATED_AT_DESC;
+            default:
+                return CREATED_AT_DESC;
+        }
+    }
+}
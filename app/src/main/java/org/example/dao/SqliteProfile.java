@@ -0,0 +1,38 @@
+package org.example.dao;
+
+import org.sqlite.SQLiteConfig;
+
+/**
+ * Per-connection pragma sets. synchronous decides what a commit waits for, cache_size is
+ * the page cache per connection and mmap_size how much of the file is read through a
+ * memory map instead of read() calls.
+ */
+public enum SqliteProfile {
+    // Every commit is fsynced, also in WAL mode; no memory map.
+    DURABLE(SQLiteConfig.SynchronousMode.FULL, 16L << 20, 0),
+    // In WAL mode NORMAL only syncs at checkpoints: a power loss can drop the last commits,
+    // but never corrupts the database, and an application crash loses nothing.
+    BALANCED(SQLiteConfig.SynchronousMode.NORMAL, 64L << 20, 256L << 20),
+    // No syncs at all, for bulk loads that can be redone.
+    THROUGHPUT(SQLiteConfig.SynchronousMode.OFF, 256L << 20, 1L << 30);
+
+    private final SQLiteConfig.SynchronousMode synchronous;
+    private final long cacheBytes;
+    private final long mmapBytes;
+
+    SqliteProfile(SQLiteConfig.SynchronousMode synchronous, long cacheBytes, long mmapBytes) {
+        this.synchronous = synchronous;
+        this.cacheBytes = cacheBytes;
+        this.mmapBytes = mmapBytes;
+    }
+
+    SQLiteConfig toConfig() {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setSynchronous(synchronous);
+        // A negative cache_size is a size in KiB rather than a page count.
+        config.setCacheSize((int) -(cacheBytes >> 10));
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, Long.toString(mmapBytes));
+        config.setTempStore(SQLiteConfig.TempStore.MEMORY);
+        return config;
+    }
+}
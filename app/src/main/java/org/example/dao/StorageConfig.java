@@ -0,0 +1,47 @@
+package org.example.dao;
+
+public class StorageConfig {
+
+    public enum Mode {
+        // Rollback journal, one read-write pool: a writer blocks readers and the reverse.
+        ROLLBACK_JOURNAL,
+        // Write-ahead log: one dedicated writer connection and a pool of read-only
+        // connections; readers keep reading the last commit while a write is in progress.
+        WAL
+    }
+
+    private String url = "jdbc:sqlite:crud_app.db";
+    private Mode mode = Mode.WAL;
+    // Every commit is synced, so a completed write survives a power loss; BALANCED and
+    // THROUGHPUT trade that for speed and have to be chosen explicitly.
+    private SqliteProfile profile = SqliteProfile.DURABLE;
+    private int readerPoolSize = 4;
+    private int busyTimeoutMillis = 2_000;
+    // A writer waits for the single writer connection while others write; bulk writes can
+    // hold it for a while.
+    private long writerWaitMillis = 30_000;
+
+    public String getUrl() { return url; }
+    public void setUrl(String url) { this.url = url; }
+
+    public Mode getMode() { return mode; }
+    public void setMode(Mode mode) { this.mode = mode; }
+
+    public SqliteProfile getProfile() { return profile; }
+    public void setProfile(SqliteProfile profile) { this.profile = profile; }
+
+    public int getReaderPoolSize() { return readerPoolSize; }
+    public void setReaderPoolSize(int readerPoolSize) {
+        if (readerPoolSize < 1) {
+            throw new IllegalArgumentException("Reader pool size must be at least 1");
+        }
+        this.readerPoolSize = readerPoolSize;
+    }
+
+    // How long SQLite itself retries a locked database before reporting SQLITE_BUSY.
+    public int getBusyTimeoutMillis() { return busyTimeoutMillis; }
+    public void setBusyTimeoutMillis(int busyTimeoutMillis) { this.busyTimeoutMillis = Math.max(0, busyTimeoutMillis); }
+
+    public long getWriterWaitMillis() { return writerWaitMillis; }
+    public void setWriterWaitMillis(long writerWaitMillis) { this.writerWaitMillis = writerWaitMillis; }
+}
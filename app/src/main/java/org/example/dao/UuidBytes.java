@@ -0,0 +1,36 @@
+package org.example.dao;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+// 16-byte big-endian form of a UUID, as stored in entities.id. Byte order matches the
+// order of the canonical text form, so (column, id) indexes sort the same way as before.
+final class UuidBytes {
+
+    private UuidBytes() {}
+
+    static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    // The same 16 bytes as 32 hex digits, for SQLite's unhex().
+    static String toHex(UUID id) {
+        return id.toString().replace("-", "");
+    }
+
+    static UUID fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) {
+            throw new IllegalArgumentException("Invalid stored UUID");
+        }
+        long mostSignificant = 0;
+        long leastSignificant = 0;
+        for (int i = 0; i < 8; i++) {
+            mostSignificant = (mostSignificant << 8) | (bytes[i] & 0xff);
+            leastSignificant = (leastSignificant << 8) | (bytes[i + 8] & 0xff);
+        }
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
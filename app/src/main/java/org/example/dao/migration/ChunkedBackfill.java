@@ -0,0 +1,65 @@
+package org.example.dao.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Rewrites an existing table in rowid ranges, one short write transaction per chunk,
+ * so other connections can keep working between chunks. Progress is recorded in
+ * schema_backfills together with each chunk, which makes an interrupted backfill resumable.
+ */
+public abstract class ChunkedBackfill {
+    private final String name;
+    private final String table;
+    private final int chunkSize;
+
+    protected ChunkedBackfill(String name, String table, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.name = name;
+        this.table = table;
+        this.chunkSize = chunkSize;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Processes rows with fromRowid < rowid <= toRowid.
+    protected abstract void processChunk(Connection connection, long fromRowid, long toRowid) throws SQLException;
+
+    void run(Connection connection, long afterRowid) throws SQLException {
+        long maxRowid;
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT coalesce(max(rowid), 0) FROM " + table)) {
+            maxRowid = rs.next() ? rs.getLong(1) : 0;
+        }
+
+        long from = afterRowid;
+        while (from < maxRowid) {
+            long to = Math.min(from + chunkSize, maxRowid);
+            long chunkStart = from;
+            MigrationRunner.inTransaction(connection, () -> {
+                processChunk(connection, chunkStart, to);
+                recordProgress(connection, to, false);
+            });
+            from = to;
+        }
+
+        MigrationRunner.inTransaction(connection, () -> recordProgress(connection, maxRowid, true));
+    }
+
+    private void recordProgress(Connection connection, long lastRowid, boolean completed) throws SQLException {
+        String sql = "UPDATE schema_backfills SET last_rowid = ?, completed = ? WHERE name = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setLong(1, lastRowid);
+            pstmt.setInt(2, completed ? 1 : 0);
+            pstmt.setString(3, name);
+            pstmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.dao.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public interface Migration {
+    int version();
+
+    String description();
+
+    void apply(Connection connection) throws SQLException;
+
+    // Data rewrite that is too large for one transaction; run in chunks after apply().
+    default ChunkedBackfill backfill() {
+        return null;
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.dao.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies ordered schema migrations exactly once. The current schema version is kept in
+ * PRAGMA user_version, so opening an up-to-date database only reads the file header.
+ */
+public class MigrationRunner {
+    private final List<Migration> migrations;
+
+    public MigrationRunner(List<Migration> migrations) {
+        List<Migration> sorted = new ArrayList<>(migrations);
+        sorted.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 0; i < sorted.size(); i++) {
+            int version = sorted.get(i).version();
+            if (version < 1 || (i > 0 && version == sorted.get(i - 1).version())) {
+                throw new IllegalArgumentException("Invalid or duplicate migration version: " + version);
+            }
+        }
+        this.migrations = sorted;
+    }
+
+    public int latestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version();
+    }
+
+    public int migrate(Connection connection) throws SQLException {
+        resumeBackfills(connection);
+
+        int current = currentVersion(connection);
+        for (Migration migration : migrations) {
+            if (migration.version() <= current) {
+                continue;
+            }
+
+            ChunkedBackfill backfill = migration.backfill();
+            boolean applied = inTransaction(connection, () -> {
+                // Another process may have migrated while we waited for the write lock.
+                if (currentVersion(connection) >= migration.version()) {
+                    return false;
+                }
+                migration.apply(connection);
+                if (backfill != null) {
+                    registerBackfill(connection, backfill);
+                }
+                setVersion(connection, migration.version());
+                return true;
+            });
+
+            if (applied && backfill != null) {
+                backfill.run(connection, 0);
+            }
+            current = migration.version();
+        }
+        return current;
+    }
+
+    public static int currentVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private void resumeBackfills(Connection connection) throws SQLException {
+        if (!tableExists(connection, "schema_backfills")) {
+            return;
+        }
+
+        Map<String, Long> pending = new HashMap<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT name, last_rowid FROM schema_backfills WHERE completed = 0")) {
+            while (rs.next()) {
+                pending.put(rs.getString(1), rs.getLong(2));
+            }
+        }
+
+        for (Migration migration : migrations) {
+            ChunkedBackfill backfill = migration.backfill();
+            if (backfill != null && pending.containsKey(backfill.getName())) {
+                backfill.run(connection, pending.get(backfill.getName()));
+            }
+        }
+    }
+
+    private static void registerBackfill(Connection connection, ChunkedBackfill backfill) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS schema_backfills (
+                    name TEXT PRIMARY KEY,
+                    last_rowid INTEGER NOT NULL,
+                    completed INTEGER NOT NULL
+                )
+                """);
+        }
+        String sql = "INSERT OR REPLACE INTO schema_backfills (name, last_rowid, completed) VALUES (?, 0, 0)";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, backfill.getName());
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static void setVersion(Connection connection, int version) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA user_version = " + version);
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        String sql = "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, table);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    interface TransactionWork<T> {
+        T run() throws SQLException;
+    }
+
+    interface TransactionStep {
+        void run() throws SQLException;
+    }
+
+    static void inTransaction(Connection connection, TransactionStep step) throws SQLException {
+        inTransaction(connection, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    // BEGIN IMMEDIATE takes the write lock up front, so concurrent migrators serialize here.
+    static <T> T inTransaction(Connection connection, TransactionWork<T> work) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("BEGIN IMMEDIATE");
+            try {
+                T result = work.run();
+                stmt.execute("COMMIT");
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    stmt.execute("ROLLBACK");
+                } catch (SQLException rollbackError) {
+                    e.addSuppressed(rollbackError);
+                }
+                throw e;
+            }
+        }
+    }
+}
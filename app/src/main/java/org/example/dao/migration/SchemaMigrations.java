@@ -0,0 +1,289 @@
+package org.example.dao.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+public final class SchemaMigrations {
+
+    private static final String FTS_INSERT_TRIGGER = """
+            CREATE TRIGGER IF NOT EXISTS entities_fts_insert AFTER INSERT ON entities BEGIN
+                INSERT INTO entities_fts (rowid, name, description)
+                VALUES (new.rowid, new.name, new.description);
+            END
+            """;
+
+    private static final String FTS_DELETE_TRIGGER = """
+            CREATE TRIGGER IF NOT EXISTS entities_fts_delete AFTER DELETE ON entities BEGIN
+                INSERT INTO entities_fts (entities_fts, rowid, name, description)
+                VALUES ('delete', old.rowid, old.name, old.description);
+            END
+            """;
+
+    private static final String FTS_UPDATE_TRIGGER = """
+            CREATE TRIGGER IF NOT EXISTS entities_fts_update AFTER UPDATE OF name, description ON entities BEGIN
+                INSERT INTO entities_fts (entities_fts, rowid, name, description)
+                VALUES ('delete', old.rowid, old.name, old.description);
+                INSERT INTO entities_fts (rowid, name, description)
+                VALUES (new.rowid, new.name, new.description);
+            END
+            """;
+
+    private SchemaMigrations() {}
+
+    public static List<Migration> all() {
+        return List.of(
+                // IF NOT EXISTS lets version 1 adopt files created before migrations existed.
+                new SqlMigration(1, "Create entities table",
+                        """
+                        CREATE TABLE IF NOT EXISTS entities (
+                            id TEXT PRIMARY KEY,
+                            name TEXT NOT NULL,
+                            description TEXT,
+                            status TEXT NOT NULL,
+                            created_at INTEGER NOT NULL,
+                            updated_at INTEGER NOT NULL,
+                            CONSTRAINT name_length CHECK (length(name) >= 3 AND length(name) <= 50),
+                            CONSTRAINT description_length CHECK (length(description) <= 255)
+                        )
+                        """,
+                        "CREATE INDEX IF NOT EXISTS idx_name ON entities(name)",
+                        "CREATE INDEX IF NOT EXISTS idx_status ON entities(status)",
+                        "CREATE INDEX IF NOT EXISTS idx_created_at ON entities(created_at)"),
+                new SampleDataMigration(2),
+                // Composite (sort column, id) indexes serve both ORDER BY and keyset seeks, with and
+                // without a status filter; they make the single-column indexes redundant.
+                new SqlMigration(3, "Add keyset pagination indexes",
+                        "CREATE INDEX IF NOT EXISTS idx_name_id ON entities(name, id)",
+                        "CREATE INDEX IF NOT EXISTS idx_created_at_id ON entities(created_at, id)",
+                        "CREATE INDEX IF NOT EXISTS idx_updated_at_id ON entities(updated_at, id)",
+                        "CREATE INDEX IF NOT EXISTS idx_status_name_id ON entities(status, name, id)",
+                        "CREATE INDEX IF NOT EXISTS idx_status_created_at_id ON entities(status, created_at, id)",
+                        "CREATE INDEX IF NOT EXISTS idx_status_updated_at_id ON entities(status, updated_at, id)",
+                        "DROP INDEX IF EXISTS idx_name",
+                        "DROP INDEX IF EXISTS idx_created_at",
+                        "DROP INDEX IF EXISTS idx_status"),
+                new FullTextSearchMigration(4),
+                new CompactStorageMigration(5),
+                new CompactStorageSwapMigration(6),
+                // Row counts per status code, kept exact by triggers in the writing transaction,
+                // so unfiltered counts read at most three rows instead of scanning an index.
+                // A future rebuild of the entities table must recreate these triggers.
+                new SqlMigration(7, "Add trigger-maintained status counters",
+                        """
+                        CREATE TABLE entity_stats (
+                            status INTEGER PRIMARY KEY,
+                            row_count INTEGER NOT NULL
+                        )
+                        """,
+                        """
+                        INSERT INTO entity_stats (status, row_count)
+                        SELECT code, (SELECT count(*) FROM entities WHERE status = code)
+                        FROM (SELECT 1 AS code UNION ALL SELECT 2 UNION ALL SELECT 3)
+                        """,
+                        """
+                        CREATE TRIGGER entity_stats_insert AFTER INSERT ON entities BEGIN
+                            UPDATE entity_stats SET row_count = row_count + 1 WHERE status = new.status;
+                        END
+                        """,
+                        """
+                        CREATE TRIGGER entity_stats_delete AFTER DELETE ON entities BEGIN
+                            UPDATE entity_stats SET row_count = row_count - 1 WHERE status = old.status;
+                        END
+                        """,
+                        """
+                        CREATE TRIGGER entity_stats_update AFTER UPDATE OF status ON entities
+                        WHEN old.status <> new.status BEGIN
+                            UPDATE entity_stats SET row_count = row_count - 1 WHERE status = old.status;
+                            UPDATE entity_stats SET row_count = row_count + 1 WHERE status = new.status;
+                        END
+                        """),
+                // Optimistic locking: updates match on the version they read and increment it.
+                // Adding a column with a constant default does not rewrite existing rows.
+                new SqlMigration(8, "Add row version column",
+                        "ALTER TABLE entities ADD COLUMN version INTEGER NOT NULL DEFAULT 0")
+        );
+    }
+
+    /**
+     * Storage format v2: id as a 16-byte BLOB instead of 36 characters of TEXT and status as
+     * an integer code (EntityStatus.code()) instead of its name. Both are repeated in every
+     * index entry, so this shrinks the table and all seven indexes.
+     *
+     * The table stays a rowid table, now with an explicit INTEGER PRIMARY KEY: the FTS index
+     * is keyed by rowid, and without an alias VACUUM may renumber rowids behind its back.
+     * WITHOUT ROWID would save the separate id index, but FTS5 external content needs an
+     * integer rowid, and ordered reads through the secondary indexes get slower because each
+     * row is then found by descending a b-tree keyed on random 16-byte ids.
+     *
+     * This migration only creates entities_v2 and its indexes. A chunked backfill copies the
+     * rows, keeping their rowids, so no step holds the write lock for long and the full-text
+     * index stays valid without a rebuild. Until the swap, triggers mirror writes that other
+     * connections make to the old table. An unknown status
+     * or malformed id becomes NULL and fails the chunk or the write.
+     */
+    private static final class CompactStorageMigration extends SqlMigration {
+        private static final String CONVERTED_COLUMNS = """
+                unhex(replace(%1$s.id, '-', '')), %1$s.name, %1$s.description,
+                CASE %1$s.status WHEN 'ACTIVE' THEN 1 WHEN 'INACTIVE' THEN 2 WHEN 'ARCHIVED' THEN 3 END,
+                %1$s.created_at, %1$s.updated_at""";
+
+        CompactStorageMigration(int version) {
+            super(version, "Create compact entities table and copy rows into it",
+                    """
+                    CREATE TABLE entities_v2 (
+                        seq INTEGER PRIMARY KEY,
+                        id BLOB NOT NULL UNIQUE,
+                        name TEXT NOT NULL,
+                        description TEXT,
+                        status INTEGER NOT NULL,
+                        created_at INTEGER NOT NULL,
+                        updated_at INTEGER NOT NULL,
+                        CONSTRAINT id_length CHECK (typeof(id) = 'blob' AND length(id) = 16),
+                        CONSTRAINT status_code CHECK (status IN (1, 2, 3)),
+                        CONSTRAINT name_length CHECK (length(name) >= 3 AND length(name) <= 50),
+                        CONSTRAINT description_length CHECK (length(description) <= 255)
+                    )
+                    """,
+                    // The old table's indexes hold the idx_* names until the swap drops them.
+                    "CREATE INDEX idx_v2_name_id ON entities_v2(name, id)",
+                    "CREATE INDEX idx_v2_created_at_id ON entities_v2(created_at, id)",
+                    "CREATE INDEX idx_v2_updated_at_id ON entities_v2(updated_at, id)",
+                    "CREATE INDEX idx_v2_status_name_id ON entities_v2(status, name, id)",
+                    "CREATE INDEX idx_v2_status_created_at_id ON entities_v2(status, created_at, id)",
+                    "CREATE INDEX idx_v2_status_updated_at_id ON entities_v2(status, updated_at, id)",
+                    "CREATE TRIGGER entities_v2_insert AFTER INSERT ON entities BEGIN "
+                            + "INSERT OR REPLACE INTO entities_v2 (seq, id, name, description, status, created_at, updated_at) "
+                            + "VALUES (new.rowid, " + CONVERTED_COLUMNS.formatted("new") + "); END",
+                    "CREATE TRIGGER entities_v2_update AFTER UPDATE ON entities BEGIN "
+                            + "INSERT OR REPLACE INTO entities_v2 (seq, id, name, description, status, created_at, updated_at) "
+                            + "VALUES (new.rowid, " + CONVERTED_COLUMNS.formatted("new") + "); END",
+                    "CREATE TRIGGER entities_v2_delete AFTER DELETE ON entities BEGIN "
+                            + "DELETE FROM entities_v2 WHERE seq = old.rowid; END");
+        }
+
+        @Override
+        public ChunkedBackfill backfill() {
+            return new ChunkedBackfill("entities_v2_copy", "entities", 10_000) {
+                @Override
+                protected void processChunk(Connection connection, long fromRowid, long toRowid) throws SQLException {
+                    String sql = "INSERT OR REPLACE INTO entities_v2 (seq, id, name, description, status, created_at, updated_at) "
+                            + "SELECT e.rowid, " + CONVERTED_COLUMNS.formatted("e")
+                            + " FROM entities e WHERE e.rowid > ? AND e.rowid <= ?";
+                    try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                        pstmt.setLong(1, fromRowid);
+                        pstmt.setLong(2, toRowid);
+                        pstmt.executeUpdate();
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Replaces the old entities table with the copy made by CompactStorageMigration. Dropping
+     * the old table also drops its indexes and triggers, including the mirror triggers, so the
+     * full-text triggers are recreated on the new table. The freed pages are
+     * reused by later writes; run VACUUM to return them to the file system.
+     */
+    private static final class CompactStorageSwapMigration extends SqlMigration {
+        CompactStorageSwapMigration(int version) {
+            super(version, "Switch to the compact entities table",
+                    "DROP TABLE entities",
+                    "ALTER TABLE entities_v2 RENAME TO entities",
+                    FTS_INSERT_TRIGGER,
+                    FTS_DELETE_TRIGGER,
+                    FTS_UPDATE_TRIGGER);
+        }
+    }
+
+    /**
+     * External-content FTS5 index over name and description, kept in sync by triggers.
+     * The trigram tokenizer gives case-insensitive substring matching, the same semantics
+     * as the LIKE '%term%' search it replaces. Existing rows are indexed by a chunked backfill;
+     * rows written after the triggers exist are indexed by the triggers.
+     */
+    private static final class FullTextSearchMigration extends SqlMigration {
+        FullTextSearchMigration(int version) {
+            super(version, "Add full-text search index",
+                    """
+                    CREATE VIRTUAL TABLE IF NOT EXISTS entities_fts USING fts5(
+                        name, description,
+                        content = 'entities', content_rowid = 'rowid',
+                        tokenize = 'trigram'
+                    )
+                    """,
+                    FTS_INSERT_TRIGGER,
+                    FTS_DELETE_TRIGGER,
+                    FTS_UPDATE_TRIGGER);
+        }
+
+        @Override
+        public ChunkedBackfill backfill() {
+            return new ChunkedBackfill("entities_fts_index", "entities", 10_000) {
+                @Override
+                protected void processChunk(Connection connection, long fromRowid, long toRowid) throws SQLException {
+                    String sql = "INSERT INTO entities_fts (rowid, name, description) "
+                            + "SELECT rowid, name, description FROM entities WHERE rowid > ? AND rowid <= ?";
+                    try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                        pstmt.setLong(1, fromRowid);
+                        pstmt.setLong(2, toRowid);
+                        pstmt.executeUpdate();
+                    }
+                }
+            };
+        }
+    }
+
+    private static final class SampleDataMigration implements Migration {
+        private final int version;
+
+        SampleDataMigration(int version) {
+            this.version = version;
+        }
+
+        @Override
+        public int version() {
+            return version;
+        }
+
+        @Override
+        public String description() {
+            return "Insert sample entities into an empty database";
+        }
+
+        @Override
+        public void apply(Connection connection) throws SQLException {
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT EXISTS (SELECT 1 FROM entities)")) {
+                if (rs.next() && rs.getInt(1) == 1) {
+                    return;
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            String sql = "INSERT INTO entities (id, name, description, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                addSample(pstmt, "Первая задача", "Описание первой задачи", "ACTIVE", now - 86400000);
+                addSample(pstmt, "Вторая задача", "Описание второй задачи", "ACTIVE", now - 43200000);
+                addSample(pstmt, "Третья задача", "Описание третьей задачи", "INACTIVE", now - 21600000);
+                pstmt.executeBatch();
+            }
+        }
+
+        private void addSample(PreparedStatement pstmt, String name, String description, String status, long timestamp)
+                throws SQLException {
+            pstmt.setString(1, UUID.randomUUID().toString());
+            pstmt.setString(2, name);
+            pstmt.setString(3, description);
+            pstmt.setString(4, status);
+            pstmt.setLong(5, timestamp);
+            pstmt.setLong(6, timestamp);
+            pstmt.addBatch();
+        }
+    }
+}
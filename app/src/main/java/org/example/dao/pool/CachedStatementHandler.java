@@ -0,0 +1,86 @@
+package org.example.dao.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+final class CachedStatementHandler implements InvocationHandler {
+    private final StatementCache cache;
+    private final StatementCache.Entry entry;
+    private final Connection owner;
+    private ResultSet lastResultSet;
+    private boolean reconfigured;
+    private boolean closed;
+
+    CachedStatementHandler(StatementCache cache, StatementCache.Entry entry, Connection owner) {
+        this.cache = cache;
+        this.entry = entry;
+        this.owner = owner;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                if (!closed) {
+                    closed = true;
+                    closeResultSet();
+                    cache.giveBack(entry, reconfigured);
+                }
+                return null;
+            case "isClosed":
+                return closed || entry.statement.isClosed();
+            case "getConnection":
+                return owner;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "CachedStatement[" + entry.sql + "]";
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(entry.statement)) {
+                    return entry.statement;
+                }
+                break;
+            case "setQueryTimeout":
+            case "setMaxRows":
+            case "setFetchSize":
+                reconfigured = true;
+                break;
+            default:
+                break;
+        }
+
+        if (closed) {
+            throw new SQLException("Statement is closed");
+        }
+
+        Object result;
+        try {
+            result = method.invoke(entry.statement, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        if (result instanceof ResultSet) {
+            lastResultSet = (ResultSet) result;
+        }
+        return result;
+    }
+
+    // An unfinished result set keeps the SQLite statement (and its read lock) active.
+    private void closeResultSet() {
+        if (lastResultSet == null) {
+            return;
+        }
+        try {
+            lastResultSet.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing result set: " + e.getMessage());
+        }
+        lastResultSet = null;
+    }
+}
@@ -0,0 +1,331 @@
+package org.example.dao.pool;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+/**
+ * Bounded pool of physical JDBC connections. Connections handed out are proxies:
+ * closing one returns the physical connection to the pool instead of closing it.
+ */
+public class ConnectionPool implements DataSource, AutoCloseable {
+    private final String url;
+    private final Properties properties;
+    private final PoolConfig config;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<PoolEntry> idle = new ArrayDeque<>();
+    private final Set<PoolEntry> borrowed = new HashSet<>();
+    private final ScheduledExecutorService housekeeper;
+    private int total;
+    private boolean closed;
+
+    private PrintWriter logWriter;
+    private int loginTimeout;
+
+    public ConnectionPool(String url, PoolConfig config) {
+        this(url, new Properties(), config);
+    }
+
+    public ConnectionPool(String url, Properties properties, PoolConfig config) {
+        this.url = url;
+        this.properties = properties;
+        this.config = config;
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = config.getHousekeepingIntervalMillis();
+        housekeeper.scheduleWithFixedDelay(this::housekeep, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getConnectionTimeoutMillis());
+
+        while (true) {
+            PoolEntry entry = null;
+            boolean create = false;
+
+            lock.lock();
+            try {
+                while (entry == null && !create) {
+                    if (closed) {
+                        throw new SQLException("Connection pool is closed");
+                    }
+                    entry = idle.pollFirst();
+                    if (entry == null && total < config.getMaxSize()) {
+                        total++;
+                        create = true;
+                    } else if (entry == null) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            throw new SQLTimeoutException("Timed out waiting for a database connection after "
+                                    + config.getConnectionTimeoutMillis() + " ms");
+                        }
+                        available.awaitNanos(remaining);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a database connection", e);
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                try {
+                    entry = new PoolEntry(DriverManager.getConnection(url, properties), config.getStatementCacheSize());
+                } catch (SQLException e) {
+                    forget();
+                    throw e;
+                }
+            } else if (!isUsable(entry)) {
+                discard(entry);
+                continue;
+            }
+
+            return lend(entry);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pool does not support per-call credentials");
+    }
+
+    public int getActiveCount() {
+        lock.lock();
+        try {
+            return borrowed.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getIdleCount() {
+        lock.lock();
+        try {
+            return idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getTotalCount() {
+        lock.lock();
+        try {
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        List<PoolEntry> toClose;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayList<>(idle);
+            total -= idle.size();
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        housekeeper.shutdownNow();
+        toClose.forEach(this::closePhysical);
+    }
+
+    void release(PoolEntry entry) {
+        boolean broken = false;
+        try {
+            if (entry.connection.isClosed()) {
+                broken = true;
+            } else if (!entry.connection.getAutoCommit()) {
+                entry.connection.rollback();
+                entry.connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error resetting pooled connection: " + e.getMessage());
+            broken = true;
+        }
+
+        lock.lock();
+        try {
+            borrowed.remove(entry);
+            if (entry.leakReported) {
+                System.err.println("Previously reported leaked connection was returned to the pool");
+            }
+            entry.borrowTrace = null;
+            entry.leakReported = false;
+
+            if (!closed && !broken) {
+                entry.lastReturnedAt = System.currentTimeMillis();
+                idle.addFirst(entry);
+                available.signal();
+                return;
+            }
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        closePhysical(entry);
+    }
+
+    void housekeep() {
+        long now = System.currentTimeMillis();
+        List<PoolEntry> evicted = new ArrayList<>();
+
+        lock.lock();
+        try {
+            Iterator<PoolEntry> oldestFirst = idle.descendingIterator();
+            while (oldestFirst.hasNext() && total > config.getMinIdle()) {
+                PoolEntry entry = oldestFirst.next();
+                if (now - entry.lastReturnedAt >= config.getIdleTimeoutMillis()) {
+                    oldestFirst.remove();
+                    total--;
+                    evicted.add(entry);
+                }
+            }
+
+            long threshold = config.getLeakDetectionThresholdMillis();
+            if (threshold > 0) {
+                for (PoolEntry entry : borrowed) {
+                    if (!entry.leakReported && now - entry.borrowedAt >= threshold) {
+                        entry.leakReported = true;
+                        System.err.println("Possible connection leak: connection held for "
+                                + (now - entry.borrowedAt) + " ms");
+                        if (entry.borrowTrace != null) {
+                            entry.borrowTrace.printStackTrace();
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        evicted.forEach(this::closePhysical);
+    }
+
+    private boolean isUsable(PoolEntry entry) {
+        try {
+            if (System.currentTimeMillis() - entry.lastReturnedAt < config.getValidationIntervalMillis()) {
+                return !entry.connection.isClosed();
+            }
+            return entry.connection.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Connection lend(PoolEntry entry) {
+        lock.lock();
+        try {
+            entry.borrowedAt = System.currentTimeMillis();
+            if (config.getLeakDetectionThresholdMillis() > 0) {
+                entry.borrowTrace = new Exception("Connection acquired here");
+            }
+            borrowed.add(entry);
+        } finally {
+            lock.unlock();
+        }
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PooledConnectionHandler(this, entry));
+    }
+
+    private void discard(PoolEntry entry) {
+        forget();
+        closePhysical(entry);
+    }
+
+    private void forget() {
+        lock.lock();
+        try {
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closePhysical(PoolEntry entry) {
+        if (entry.statements != null) {
+            entry.statements.closeAll();
+        }
+        try {
+            entry.connection.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return logWriter;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        this.logWriter = out;
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        this.loginTimeout = seconds;
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return loginTimeout;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
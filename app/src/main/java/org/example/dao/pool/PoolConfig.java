@@ -0,0 +1,47 @@
+package org.example.dao.pool;
+
+public class PoolConfig {
+    private int maxSize = 4;
+    private int minIdle = 1;
+    private long connectionTimeoutMillis = 5_000;
+    private long validationIntervalMillis = 30_000;
+    private int validationTimeoutSeconds = 2;
+    private long idleTimeoutMillis = 600_000;
+    private long leakDetectionThresholdMillis = 60_000;
+    private long housekeepingIntervalMillis = 30_000;
+    private int statementCacheSize = 32;
+
+    public int getMaxSize() { return maxSize; }
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    public int getMinIdle() { return minIdle; }
+    public void setMinIdle(int minIdle) { this.minIdle = Math.max(0, minIdle); }
+
+    public long getConnectionTimeoutMillis() { return connectionTimeoutMillis; }
+    public void setConnectionTimeoutMillis(long connectionTimeoutMillis) { this.connectionTimeoutMillis = connectionTimeoutMillis; }
+
+    public long getValidationIntervalMillis() { return validationIntervalMillis; }
+    public void setValidationIntervalMillis(long validationIntervalMillis) { this.validationIntervalMillis = validationIntervalMillis; }
+
+    public int getValidationTimeoutSeconds() { return validationTimeoutSeconds; }
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) { this.validationTimeoutSeconds = validationTimeoutSeconds; }
+
+    public long getIdleTimeoutMillis() { return idleTimeoutMillis; }
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) { this.idleTimeoutMillis = idleTimeoutMillis; }
+
+    // 0 disables leak detection.
+    public long getLeakDetectionThresholdMillis() { return leakDetectionThresholdMillis; }
+    public void setLeakDetectionThresholdMillis(long leakDetectionThresholdMillis) { this.leakDetectionThresholdMillis = leakDetectionThresholdMillis; }
+
+    public long getHousekeepingIntervalMillis() { return housekeepingIntervalMillis; }
+    public void setHousekeepingIntervalMillis(long housekeepingIntervalMillis) { this.housekeepingIntervalMillis = housekeepingIntervalMillis; }
+
+    // Prepared statements kept per physical connection; 0 disables caching.
+    public int getStatementCacheSize() { return statementCacheSize; }
+    public void setStatementCacheSize(int statementCacheSize) { this.statementCacheSize = Math.max(0, statementCacheSize); }
+}
@@ -0,0 +1,18 @@
+package org.example.dao.pool;
+
+import java.sql.Connection;
+
+final class PoolEntry {
+    final Connection connection;
+    final StatementCache statements;
+    long lastReturnedAt;
+    long borrowedAt;
+    Throwable borrowTrace;
+    boolean leakReported;
+
+    PoolEntry(Connection connection, int statementCacheSize) {
+        this.connection = connection;
+        this.statements = statementCacheSize > 0 ? new StatementCache(statementCacheSize) : null;
+        this.lastReturnedAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.dao.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+final class PooledConnectionHandler implements InvocationHandler {
+    private static final int STATEMENT_PRUNE_THRESHOLD = 64;
+
+    private final ConnectionPool pool;
+    private final PoolEntry entry;
+    private final List<Statement> openStatements = new ArrayList<>();
+    private boolean closed;
+
+    PooledConnectionHandler(ConnectionPool pool, PoolEntry entry) {
+        this.pool = pool;
+        this.entry = entry;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                if (!closed) {
+                    closed = true;
+                    closeOpenStatements();
+                    pool.release(entry);
+                }
+                return null;
+            case "isClosed":
+                return closed || entry.connection.isClosed();
+            case "isValid":
+                if (closed) {
+                    return false;
+                }
+                break;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "PooledConnection[" + entry.connection + (closed ? ", closed]" : "]");
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(entry.connection)) {
+                    return entry.connection;
+                }
+                break;
+            case "isWrapperFor":
+                if (((Class<?>) args[0]).isInstance(entry.connection)) {
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (closed) {
+            throw new SQLException("Connection is closed");
+        }
+
+        Object result;
+        try {
+            if (entry.statements != null && "prepareStatement".equals(method.getName()) && args.length == 1) {
+                result = entry.statements.borrow(entry.connection, (Connection) proxy, (String) args[0]);
+            } else {
+                result = method.invoke(entry.connection, args);
+            }
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+
+        if (result instanceof Statement) {
+            trackStatement((Statement) result);
+        }
+        return result;
+    }
+
+    private void trackStatement(Statement statement) throws SQLException {
+        if (openStatements.size() >= STATEMENT_PRUNE_THRESHOLD) {
+            openStatements.removeIf(s -> {
+                try {
+                    return s.isClosed();
+                } catch (SQLException e) {
+                    return true;
+                }
+            });
+        }
+        openStatements.add(statement);
+    }
+
+    private void closeOpenStatements() {
+        for (Statement statement : openStatements) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing leaked statement: " + e.getMessage());
+            }
+        }
+        openStatements.clear();
+    }
+}
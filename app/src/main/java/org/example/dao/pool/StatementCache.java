@@ -0,0 +1,106 @@
+package org.example.dao.pool;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-connection LRU of prepared statements keyed by SQL text. Only touched by the
+ * thread that currently holds the connection, so it needs no locking.
+ */
+final class StatementCache {
+    private final int capacity;
+    private final LinkedHashMap<String, Entry> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    StatementCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    static final class Entry {
+        final String sql;
+        final PreparedStatement statement;
+        boolean inUse;
+
+        Entry(String sql, PreparedStatement statement) {
+            this.sql = sql;
+            this.statement = statement;
+        }
+    }
+
+    PreparedStatement borrow(Connection physical, Connection owner, String sql) throws SQLException {
+        Entry entry = statements.get(sql);
+        if (entry != null && entry.inUse) {
+            // Same SQL already open on this connection: hand out a plain, uncached statement.
+            return physical.prepareStatement(sql);
+        }
+        if (entry == null) {
+            entry = new Entry(sql, physical.prepareStatement(sql));
+            statements.put(sql, entry);
+            evictOverflow();
+        }
+
+        entry.inUse = true;
+        return (PreparedStatement) Proxy.newProxyInstance(
+                StatementCache.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new CachedStatementHandler(this, entry, owner));
+    }
+
+    void giveBack(Entry entry, boolean reconfigured) {
+        try {
+            if (entry.statement.isClosed()) {
+                remove(entry);
+                return;
+            }
+            entry.statement.clearParameters();
+            entry.statement.clearBatch();
+            if (reconfigured) {
+                entry.statement.setQueryTimeout(0);
+                entry.statement.setMaxRows(0);
+                entry.statement.setFetchSize(0);
+            }
+            entry.inUse = false;
+        } catch (SQLException e) {
+            remove(entry);
+            closeQuietly(entry.statement);
+        }
+    }
+
+    int size() {
+        return statements.size();
+    }
+
+    void closeAll() {
+        for (Entry entry : statements.values()) {
+            closeQuietly(entry.statement);
+        }
+        statements.clear();
+    }
+
+    private void remove(Entry entry) {
+        statements.remove(entry.sql, entry);
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, Entry>> eldestFirst = statements.entrySet().iterator();
+        while (statements.size() > capacity && eldestFirst.hasNext()) {
+            Entry candidate = eldestFirst.next().getValue();
+            if (!candidate.inUse) {
+                eldestFirst.remove();
+                closeQuietly(candidate.statement);
+            }
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing cached statement: " + e.getMessage());
+        }
+    }
+}
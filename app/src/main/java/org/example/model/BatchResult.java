@@ -0,0 +1,43 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class BatchResult {
+    private int savedCount;
+    private final List<Failure> failures = new ArrayList<>();
+
+    public static class Failure {
+        private final int index;
+        private final Entity entity;
+        private final String message;
+
+        public Failure(int index, Entity entity, String message) {
+            this.index = index;
+            this.entity = entity;
+            this.message = message;
+        }
+
+        // Position of the row in the submitted collection.
+        public int getIndex() { return index; }
+
+        public Entity getEntity() { return entity; }
+
+        public String getMessage() { return message; }
+    }
+
+    public void addSaved(int count) {
+        savedCount += count;
+    }
+
+    public void addFailure(int index, Entity entity, String message) {
+        failures.add(new Failure(index, entity, message));
+    }
+
+    public int getSavedCount() { return savedCount; }
+
+    public List<Failure> getFailures() { return Collections.unmodifiableList(failures); }
+
+    public boolean hasFailures() { return !failures.isEmpty(); }
+}
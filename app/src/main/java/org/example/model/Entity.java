@@ -0,0 +1,176 @@
+package org.example.model;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.UUID;
+
+public class Entity {
+    // The columns an update can change; see getChangedFields().
+    public enum Field { NAME, DESCRIPTION, STATUS }
+
+    // Millis value of a timestamp that was set to null; the LocalDateTime getter returns null.
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private UUID id;
+    private String name;
+    private String description;
+    private EntityStatus status;
+    // Timestamps are kept as epoch millis, the stored form; the LocalDateTime views are
+    // converted on first use, so rows that are only listed or paged never pay for them.
+    private long createdAtMillis;
+    private long updatedAtMillis;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    // Optimistic-lock version of the stored row; every update increments it.
+    private long version;
+    // Bit per Field whose setter changed the value since the row was loaded or written.
+    private int changedFields;
+
+    public Entity() {
+        this.id = UUID.randomUUID();
+        setCreatedAt(LocalDateTime.now());
+        setUpdatedAt(LocalDateTime.now());
+        this.status = EntityStatus.ACTIVE;
+    }
+
+    // Stored row; skips the random id and clock reads of the default constructor.
+    public Entity(UUID id, String name, String description, EntityStatus status,
+                  long createdAtMillis, long updatedAtMillis) {
+        this(id, name, description, status, createdAtMillis, updatedAtMillis, 0);
+    }
+
+    public Entity(UUID id, String name, String description, EntityStatus status,
+                  long createdAtMillis, long updatedAtMillis, long version) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.status = status;
+        this.createdAtMillis = createdAtMillis;
+        this.updatedAtMillis = updatedAtMillis;
+        this.version = version;
+    }
+
+    public Entity(String name, String description) {
+        this();
+        this.name = name;
+        this.description = description;
+    }
+
+    public Entity(Entity other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.description = other.description;
+        this.status = other.status;
+        this.createdAtMillis = other.createdAtMillis;
+        this.updatedAtMillis = other.updatedAtMillis;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.version = other.version;
+        this.changedFields = other.changedFields;
+    }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) {
+        if (!Objects.equals(this.name, name)) {
+            this.name = name;
+            markChanged(Field.NAME);
+        }
+    }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) {
+        if (!Objects.equals(this.description, description)) {
+            this.description = description;
+            markChanged(Field.DESCRIPTION);
+        }
+    }
+
+    public EntityStatus getStatus() { return status; }
+    public void setStatus(EntityStatus status) {
+        if (this.status != status) {
+            this.status = status;
+            markChanged(Field.STATUS);
+        }
+    }
+
+    public LocalDateTime getCreatedAt() {
+        if (createdAt == null && createdAtMillis != NO_TIMESTAMP) {
+            createdAt = toLocalDateTime(createdAtMillis);
+        }
+        return createdAt;
+    }
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        this.createdAtMillis = toEpochMillis(createdAt);
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        if (updatedAt == null && updatedAtMillis != NO_TIMESTAMP) {
+            updatedAt = toLocalDateTime(updatedAtMillis);
+        }
+        return updatedAt;
+    }
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+        this.updatedAtMillis = toEpochMillis(updatedAt);
+    }
+
+    public long getCreatedAtMillis() { return createdAtMillis; }
+    public void setCreatedAtMillis(long createdAtMillis) {
+        this.createdAtMillis = createdAtMillis;
+        this.createdAt = null;
+    }
+
+    public long getUpdatedAtMillis() { return updatedAtMillis; }
+    public void setUpdatedAtMillis(long updatedAtMillis) {
+        this.updatedAtMillis = updatedAtMillis;
+        this.updatedAt = null;
+    }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    // Setting a field to the value it already has does not count as a change.
+    public boolean isChanged(Field field) {
+        return (changedFields & (1 << field.ordinal())) != 0;
+    }
+
+    public boolean hasChanges() {
+        return changedFields != 0;
+    }
+
+    // Called once the entity matches its stored row again.
+    public void markClean() {
+        changedFields = 0;
+    }
+
+    private void markChanged(Field field) {
+        changedFields |= 1 << field.ordinal();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? NO_TIMESTAMP : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public String toString() {
+        return "Entity{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                ", status=" + status +
+                ", createdAt=" + getCreatedAt() +
+                ", updatedAt=" + getUpdatedAt() +
+                ", version=" + version +
+                '}';
+    }
+}
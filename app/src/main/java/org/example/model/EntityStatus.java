@@ -0,0 +1,34 @@
+package org.example.model;
+
+public enum EntityStatus {
+    ACTIVE(1),
+    INACTIVE(2),
+    ARCHIVED(3);
+
+    private static final EntityStatus[] BY_CODE = new EntityStatus[4];
+
+    static {
+        for (EntityStatus status : values()) {
+            BY_CODE[status.code] = status;
+        }
+    }
+
+    // Stored value of the status column; never reuse or renumber a code.
+    private final int code;
+
+    EntityStatus(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public static EntityStatus fromCode(int code) {
+        EntityStatus status = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown status code: " + code);
+        }
+        return status;
+    }
+}
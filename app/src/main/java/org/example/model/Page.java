@@ -0,0 +1,21 @@
+package org.example.model;
+
+import java.util.List;
+
+public class Page<T> {
+    private final List<T> items;
+    private final int totalCount;
+
+    public Page(List<T> items, int totalCount) {
+        this.items = items;
+        this.totalCount = totalCount;
+    }
+
+    public static <T> Page<T> empty() {
+        return new Page<>(List.of(), 0);
+    }
+
+    public List<T> getItems() { return items; }
+
+    public int getTotalCount() { return totalCount; }
+}
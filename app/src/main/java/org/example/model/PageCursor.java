@@ -0,0 +1,54 @@
+package org.example.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a page for keyset pagination. It keeps every sortable key
+ * of that row, so the same cursor works whatever sort order the page was loaded with.
+ */
+public final class PageCursor {
+    private final String name;
+    private final long createdAt;
+    private final long updatedAt;
+    private final UUID id;
+
+    public PageCursor(String name, long createdAt, long updatedAt, UUID id) {
+        this.name = name;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.id = id;
+    }
+
+    public static PageCursor of(Entity entity) {
+        return new PageCursor(
+                entity.getName(),
+                entity.getCreatedAtMillis(),
+                entity.getUpdatedAtMillis(),
+                entity.getId());
+    }
+
+    public String getName() { return name; }
+
+    public long getCreatedAt() { return createdAt; }
+
+    public long getUpdatedAt() { return updatedAt; }
+
+    public UUID getId() { return id; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PageCursor)) return false;
+        PageCursor other = (PageCursor) o;
+        return createdAt == other.createdAt
+                && updatedAt == other.updatedAt
+                && Objects.equals(name, other.name)
+                && Objects.equals(id, other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, createdAt, updatedAt, id);
+    }
+}
@@ -0,0 +1,459 @@
+package org.example.service;
+
+import org.example.dao.BulkProgressListener;
+import org.example.dao.CancellationToken;
+import org.example.dao.EntityDao;
+import org.example.dao.EntityWrite;
+import org.example.model.BatchResult;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.example.model.Page;
+import org.example.model.PageCursor;
+import org.example.service.cache.CacheStats;
+import org.example.service.cache.EntityCache;
+import org.example.service.cache.PageCache;
+import org.example.service.cache.PageKey;
+import org.example.service.importer.EntityImporter;
+import org.example.service.importer.ImportFormat;
+import org.example.service.importer.ImportProgressListener;
+import org.example.service.importer.ImportReport;
+import org.example.service.writebehind.WriteBehindConfig;
+import org.example.service.writebehind.WriteBehindQueue;
+import org.example.util.Validator;
+import org.example.util.Violation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+public class EntityService implements AutoCloseable {
+    private final EntityDao entityDao;
+    private final Validator validator;
+    private final EntityCache cache;
+    private final PageCache pageCache;
+    // Null unless writes are queued and group-committed instead of applied one by one.
+    private final WriteBehindQueue writeBehind;
+
+    public EntityService() {
+        this(new EntityDao(), new Validator(), new EntityCache(), new PageCache());
+    }
+
+    public EntityService(WriteBehindConfig writeBehindConfig) {
+        this(new EntityDao(), new Validator(), new EntityCache(), new PageCache(), writeBehindConfig);
+    }
+
+    public EntityService(EntityDao entityDao, Validator validator, EntityCache cache, PageCache pageCache) {
+        this(entityDao, validator, cache, pageCache, null);
+    }
+
+    public EntityService(EntityDao entityDao, Validator validator, EntityCache cache, PageCache pageCache,
+                         WriteBehindConfig writeBehindConfig) {
+        this.entityDao = entityDao;
+        this.validator = validator;
+        this.cache = cache;
+        this.pageCache = pageCache;
+        this.writeBehind = writeBehindConfig == null
+                ? null
+                : new WriteBehindQueue(entityDao, writeBehindConfig, pageCache::bumpVersion);
+    }
+
+    // With write-behind, createEntity, updateEntity and deleteEntity return once the write
+    // is queued; the submit variants return a future that completes when it is committed.
+    // Without it they are the same and the future is already complete. Either way, reads
+    // through this service see the write as soon as the call returns.
+
+    public void createEntity(String name, String description) throws Exception {
+        submitCreate(name, description);
+    }
+
+    public CompletableFuture<Void> submitCreate(String name, String description) throws Exception {
+        validator.validateName(name);
+        validator.validateDescription(description);
+
+        Entity entity = new Entity(name, description);
+        if (writeBehind != null) {
+            cache.put(entity);
+            return queue(EntityWrite.insert(entity));
+        }
+        try {
+            entityDao.save(entity);
+        } finally {
+            pageCache.bumpVersion();
+        }
+        cache.put(entity);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public BatchResult createEntities(Collection<Entity> entities) throws SQLException {
+        return createEntities(entities, EntityDao.DEFAULT_BATCH_CHUNK_SIZE);
+    }
+
+    // Rows failing validation are reported with their position and skipped; the rest are
+    // inserted in one batched transaction.
+    public BatchResult createEntities(Collection<Entity> entities, int chunkSize) throws SQLException {
+        awaitQueuedWrites();
+        BatchResult result = new BatchResult();
+        List<Entity> valid = new ArrayList<>(entities.size());
+        List<Integer> validIndexes = new ArrayList<>(entities.size());
+
+        Violation[] violations = validator.validateAll(entities, Entity::getName, Entity::getDescription);
+        int index = 0;
+        for (Entity entity : entities) {
+            if (violations[index] != null) {
+                result.addFailure(index, entity, violations[index].getMessage());
+            } else {
+                valid.add(entity);
+                validIndexes.add(index);
+            }
+            index++;
+        }
+
+        BatchResult saved;
+        try {
+            saved = entityDao.saveAll(valid, chunkSize);
+        } finally {
+            pageCache.bumpVersion();
+        }
+        result.addSaved(saved.getSavedCount());
+        for (BatchResult.Failure failure : saved.getFailures()) {
+            result.addFailure(validIndexes.get(failure.getIndex()), failure.getEntity(), failure.getMessage());
+        }
+        return result;
+    }
+
+    public ImportReport importEntities(Path file, ImportFormat format, ImportProgressListener listener) throws IOException, SQLException {
+        awaitQueuedWrites();
+        EntityImporter importer = new EntityImporter(entityDao, validator,
+                EntityImporter.DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+        // Every committed chunk changes what pages show.
+        try {
+            return importer.importFile(file, format, (rowsRead, imported, rejected) -> {
+                pageCache.bumpVersion();
+                listener.onProgress(rowsRead, imported, rejected);
+            });
+        } finally {
+            pageCache.bumpVersion();
+        }
+    }
+
+    public Entity getEntity(UUID id) throws SQLException {
+        if (writeBehind != null) {
+            EntityWrite queued = writeBehind.pending(id);
+            if (queued != null && queued.getKind() == EntityWrite.Kind.OVERWRITE) {
+                // The queued write does not carry the whole row; read it once it is committed.
+                awaitQueuedWrites();
+                return load(id);
+            }
+            if (queued != null) {
+                return queued.getKind() == EntityWrite.Kind.DELETE ? null : afterCommit(queued);
+            }
+        }
+        Entity entity = cache.get(id);
+        return entity != null ? entity : load(id);
+    }
+
+    // Reads the row and caches it, unless a write to it overtakes the read.
+    private Entity load(UUID id) throws SQLException {
+        long writeStamp = cache.writeStamp(id);
+        Entity entity = entityDao.findById(id);
+        if (entity != null) {
+            cache.fill(entity, writeStamp);
+        }
+        return entity;
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    public List<Entity> getAllEntities(String search, EntityStatus status, String sortBy, int page, int pageSize) throws SQLException {
+        awaitQueuedWrites();
+        int offset = (page - 1) * pageSize;
+        return entityDao.findAll(search, status, sortBy, offset, pageSize);
+    }
+
+    public List<Entity> getEntitiesAfter(String search, EntityStatus status, String sortBy, PageCursor after, int pageSize) throws SQLException {
+        awaitQueuedWrites();
+        return entityDao.findAfter(search, status, sortBy, after, pageSize);
+    }
+
+    // Whole result set without paging; the caller must close the stream.
+    public Stream<Entity> streamEntities(String search, EntityStatus status, String sortBy) throws SQLException {
+        awaitQueuedWrites();
+        return entityDao.stream(search, status, sortBy);
+    }
+
+    public Page<Entity> getPage(String search, EntityStatus status, String sortBy, int page, int pageSize) throws SQLException {
+        return getPage(search, status, sortBy, page, pageSize, null);
+    }
+
+    public Page<Entity> getPage(String search, EntityStatus status, String sortBy, int page, int pageSize,
+                                CancellationToken token) throws SQLException {
+        int offset = (page - 1) * pageSize;
+        return cachedPage(PageKey.offset(search, status, sortBy, page, pageSize),
+                () -> entityDao.findPage(search, status, sortBy, offset, pageSize, token));
+    }
+
+    public Page<Entity> getPageAfter(String search, EntityStatus status, String sortBy, PageCursor after, int pageSize) throws SQLException {
+        return getPageAfter(search, status, sortBy, after, pageSize, null);
+    }
+
+    public Page<Entity> getPageAfter(String search, EntityStatus status, String sortBy, PageCursor after, int pageSize,
+                                     CancellationToken token) throws SQLException {
+        return cachedPage(PageKey.after(search, status, sortBy, after, pageSize),
+                () -> entityDao.findPageAfter(search, status, sortBy, after, pageSize, token));
+    }
+
+    public CacheStats getPageCacheStats() {
+        return pageCache.stats();
+    }
+
+    // For picking up writes made outside this service, e.g. by another process.
+    public void invalidateCaches() {
+        cache.invalidateAll();
+        pageCache.invalidateAll();
+    }
+
+    // Changes whenever data is written through this service.
+    public long getDataVersion() {
+        return pageCache.currentVersion();
+    }
+
+    private interface PageQuery {
+        Page<Entity> load() throws SQLException;
+    }
+
+    private Page<Entity> cachedPage(PageKey key, PageQuery query) throws SQLException {
+        awaitQueuedWrites();
+        Page<Entity> cached = pageCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Read the version first, so a write racing with the query leaves the result stale.
+        long version = pageCache.currentVersion();
+        Page<Entity> page = query.load();
+        pageCache.put(key, version, page);
+        return page;
+    }
+
+    public List<Entity> searchEntities(String query, EntityStatus status, int page, int pageSize) throws SQLException {
+        awaitQueuedWrites();
+        int offset = (page - 1) * pageSize;
+        return entityDao.search(query, status, offset, pageSize);
+    }
+
+    public int getTotalCount(String search, EntityStatus status) throws SQLException {
+        awaitQueuedWrites();
+        return entityDao.count(search, status);
+    }
+
+    public void updateEntity(UUID id, String name, String description, EntityStatus status) throws Exception {
+        submitUpdate(id, name, description, status);
+    }
+
+    /**
+     * Replaces the name, description and status of the entity. The caller never read a
+     * version, so none is checked: the row is written in one statement without reading it
+     * first, and dropped from the entity cache rather than read back.
+     */
+    public CompletableFuture<Void> submitUpdate(UUID id, String name, String description, EntityStatus status) throws Exception {
+        validator.validateName(name);
+        validator.validateDescription(description);
+
+        if (writeBehind != null) {
+            EntityWrite queued = writeBehind.pending(id);
+            if (queued != null && queued.getKind() == EntityWrite.Kind.DELETE) {
+                throw new IllegalArgumentException("Entity not found");
+            }
+            Entity values = new Entity(id, name, description, status, Entity.NO_TIMESTAMP, System.currentTimeMillis());
+            CompletableFuture<Void> committed = queue(EntityWrite.overwrite(values));
+            cache.invalidate(id);
+            // A read that raced the commit may have cached the old row.
+            return committed.whenComplete((ignored, error) -> cache.invalidate(id));
+        }
+        boolean found;
+        try {
+            found = entityDao.overwrite(id, name, description, status);
+        } finally {
+            cache.invalidate(id);
+            pageCache.bumpVersion();
+        }
+        if (!found) {
+            throw new IllegalArgumentException("Entity not found");
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public void updateEntity(Entity edited) throws Exception {
+        submitUpdate(edited);
+    }
+
+    /**
+     * Saves the changed fields of an entity the caller read earlier (e.g. a table row), without
+     * reading it again: the update only applies if the stored row still has the entity's
+     * version, and fails with OptimisticLockException otherwise. An entity without changes is
+     * not written. The caller's entity is not modified.
+     */
+    public CompletableFuture<Void> submitUpdate(Entity edited) throws Exception {
+        validator.validateName(edited.getName());
+        validator.validateDescription(edited.getDescription());
+        return write(new Entity(edited));
+    }
+
+    public void deleteEntity(UUID id) throws SQLException {
+        submitDelete(id);
+    }
+
+    public CompletableFuture<Void> submitDelete(UUID id) throws SQLException {
+        if (writeBehind != null) {
+            cache.invalidate(id);
+            return queue(EntityWrite.delete(id));
+        }
+        try {
+            entityDao.delete(id);
+        } finally {
+            cache.invalidate(id);
+            pageCache.bumpVersion();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<Void> write(Entity entity) throws SQLException {
+        if (!entity.hasChanges()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (writeBehind != null) {
+            entity.setUpdatedAtMillis(System.currentTimeMillis());
+            EntityWrite write = EntityWrite.update(entity);
+            cache.put(afterCommit(write));
+            return queue(write);
+        }
+        try {
+            entityDao.update(entity);
+        } catch (SQLException e) {
+            cache.invalidate(entity.getId());
+            throw e;
+        } finally {
+            pageCache.bumpVersion();
+        }
+        cache.put(entity);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // The entity as it reads back once the queued write is committed, so edits made while
+    // it is still queued expect the version it will have produced.
+    private static Entity afterCommit(EntityWrite write) {
+        Entity entity = new Entity(write.getEntity());
+        if (write.getKind() == EntityWrite.Kind.UPDATE) {
+            entity.setVersion(entity.getVersion() + 1);
+        }
+        entity.markClean();
+        return entity;
+    }
+
+    // Bulk changes are one chunked, set-based write each instead of a call per entity. Page
+    // caches move on after every committed chunk; cached entities are dropped at the end.
+
+    public long changeStatus(Collection<UUID> ids, EntityStatus status, BulkProgressListener listener) throws SQLException {
+        requireStatus(status);
+        awaitQueuedWrites();
+        try {
+            return entityDao.updateStatus(ids, status, EntityDao.BULK_CHUNK_SIZE, chunkCommitted(listener));
+        } finally {
+            ids.forEach(cache::invalidate);
+            pageCache.bumpVersion();
+        }
+    }
+
+    // Every entity the list would show for this search and status filter.
+    public long changeStatusMatching(String search, EntityStatus filterStatus, EntityStatus status,
+                                     BulkProgressListener listener) throws SQLException {
+        requireStatus(status);
+        awaitQueuedWrites();
+        try {
+            return entityDao.updateStatusMatching(search, filterStatus, status, EntityDao.BULK_CHUNK_SIZE,
+                    chunkCommitted(listener));
+        } finally {
+            cache.invalidateAll();
+            pageCache.bumpVersion();
+        }
+    }
+
+    public long deleteEntities(Collection<UUID> ids, BulkProgressListener listener) throws SQLException {
+        awaitQueuedWrites();
+        try {
+            return entityDao.deleteAll(ids, EntityDao.BULK_CHUNK_SIZE, chunkCommitted(listener));
+        } finally {
+            ids.forEach(cache::invalidate);
+            pageCache.bumpVersion();
+        }
+    }
+
+    public long deleteMatching(String search, EntityStatus filterStatus, BulkProgressListener listener) throws SQLException {
+        awaitQueuedWrites();
+        try {
+            return entityDao.deleteMatching(search, filterStatus, EntityDao.BULK_CHUNK_SIZE, chunkCommitted(listener));
+        } finally {
+            cache.invalidateAll();
+            pageCache.bumpVersion();
+        }
+    }
+
+    private BulkProgressListener chunkCommitted(BulkProgressListener listener) {
+        return (changed, done, total) -> {
+            pageCache.bumpVersion();
+            return listener.onProgress(changed, done, total);
+        };
+    }
+
+    private static void requireStatus(EntityStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status is required");
+        }
+    }
+
+    // Commits whatever is still queued and stops the writer; a no-op without write-behind.
+    @Override
+    public void close() {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+    }
+
+    private CompletableFuture<Void> queue(EntityWrite write) throws SQLException {
+        CompletableFuture<Void> committed;
+        try {
+            committed = writeBehind.submit(write);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cache.invalidate(write.getId());
+            throw new SQLException("Interrupted while queueing a write", e);
+        }
+        // The cache was updated optimistically; a write that did not land must not linger there.
+        return committed.whenComplete((ignored, error) -> {
+            if (error != null) {
+                cache.invalidate(write.getId());
+            }
+        });
+    }
+
+    // Reads that go to the database wait for queued writes, so they see what this service
+    // has already accepted.
+    private void awaitQueuedWrites() throws SQLException {
+        if (writeBehind == null) {
+            return;
+        }
+        try {
+            writeBehind.awaitCommitted();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for queued writes", e);
+        }
+    }
+}
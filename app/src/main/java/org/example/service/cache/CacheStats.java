@@ -0,0 +1,35 @@
+package org.example.service.cache;
+
+// Point-in-time counters of a cache since it was created.
+public class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    public long getHitCount() { return hitCount; }
+
+    public long getMissCount() { return missCount; }
+
+    public long getEvictionCount() { return evictionCount; }
+
+    public int getSize() { return size; }
+
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, hitRate=%.2f, evictions=%d, size=%d",
+                hitCount, missCount, getHitRate(), evictionCount, size);
+    }
+}
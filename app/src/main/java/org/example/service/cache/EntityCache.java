@@ -0,0 +1,154 @@
+package org.example.service.cache;
+
+import org.example.model.Entity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size-bounded LRU cache of entities by id. Entities are mutable, so the cache stores and
+ * hands out copies; callers can change what they get without touching the cached row.
+ *
+ * put and invalidate record writes; a row read from the database is added with fill, which
+ * only lands if no write touched that id while the read was running. Write stamps are kept
+ * per stripe of ids, so an unrelated write can at worst skip a fill, never let a stale one in.
+ */
+public class EntityCache {
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    private static final int STAMP_STRIPES = 64;
+
+    private final int maxSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<UUID, Entity> entries;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private final long[] writeStamps = new long[STAMP_STRIPES];
+
+    public EntityCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public EntityCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative");
+        }
+        this.maxSize = maxSize;
+        // Access order: every get moves the entry to the tail, so the head is least recently used.
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entity> eldest) {
+                if (size() > EntityCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // Returns a copy of the cached entity, or null on a miss.
+    public Entity get(UUID id) {
+        lock.lock();
+        try {
+            Entity entity = entries.get(id);
+            if (entity == null) {
+                missCount++;
+                return null;
+            }
+            hitCount++;
+            return new Entity(entity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The entity as just written.
+    public void put(Entity entity) {
+        Entity copy = maxSize == 0 ? null : new Entity(entity);
+        lock.lock();
+        try {
+            writeStamps[stripe(entity.getId())]++;
+            if (copy != null) {
+                entries.put(copy.getId(), copy);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Take before reading the row that will be passed to fill.
+    public long writeStamp(UUID id) {
+        lock.lock();
+        try {
+            return writeStamps[stripe(id)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Caches a row read from the database, unless a put or invalidate for its id happened
+    // since writeStamp was taken; returns whether it was cached.
+    public boolean fill(Entity entity, long writeStamp) {
+        if (maxSize == 0) {
+            return false;
+        }
+        Entity copy = new Entity(entity);
+        lock.lock();
+        try {
+            if (writeStamps[stripe(copy.getId())] != writeStamp) {
+                return false;
+            }
+            entries.put(copy.getId(), copy);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(UUID id) {
+        lock.lock();
+        try {
+            writeStamps[stripe(id)]++;
+            entries.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            for (int i = 0; i < STAMP_STRIPES; i++) {
+                writeStamps[i]++;
+            }
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int stripe(UUID id) {
+        return id.hashCode() & (STAMP_STRIPES - 1);
+    }
+
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hitCount, missCount, evictionCount, entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
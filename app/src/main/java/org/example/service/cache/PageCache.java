@@ -0,0 +1,192 @@
+package org.example.service.cache;
+
+import org.example.model.Entity;
+import org.example.model.Page;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Query-result cache for entity pages, bounded by an estimate of the memory the cached
+ * entities take. Every entry is tagged with the data version it was read at; a write bumps
+ * the version, which makes every older entry stale at once.
+ *
+ * Callers read {@link #currentVersion()} before running the query and pass it to
+ * {@link #put}: a page read while a write was in progress is then tagged with the old
+ * version and never served as current.
+ */
+public class PageCache {
+    public static final long DEFAULT_MAX_BYTES = 8L * 1024 * 1024;
+
+    // Rough per-entity overhead: object headers, UUID, enum reference, two longs, list slot.
+    private static final int ENTITY_OVERHEAD_BYTES = 160;
+    private static final int PAGE_OVERHEAD_BYTES = 96;
+
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<PageKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long dataVersion;
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private static final class Entry {
+        final Page<Entity> page;
+        final long version;
+        final long weight;
+
+        Entry(Page<Entity> page, long version, long weight) {
+            this.page = page;
+            this.version = version;
+            this.weight = weight;
+        }
+    }
+
+    public PageCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public PageCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    public long currentVersion() {
+        lock.lock();
+        try {
+            return dataVersion;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called by every write path; stale entries are dropped as they are found or evicted.
+    public void bumpVersion() {
+        lock.lock();
+        try {
+            dataVersion++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns a copy of the cached page if it is current, otherwise null.
+    public Page<Entity> get(PageKey key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version != dataVersion) {
+                remove(key, entry);
+                entry = null;
+            }
+            if (entry == null) {
+                missCount++;
+                return null;
+            }
+            hitCount++;
+            return copy(entry.page);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(PageKey key, long version, Page<Entity> page) {
+        Page<Entity> copy = copy(page);
+        long entryWeight = weigh(copy);
+        lock.lock();
+        try {
+            if (version != dataVersion || entryWeight > maxBytes) {
+                return;
+            }
+            Entry previous = entries.put(key, new Entry(copy, version, entryWeight));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entryWeight;
+            evictToBound();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            dataVersion++;
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getWeight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hitCount, missCount, evictionCount, entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictToBound() {
+        // Stale entries go first, then least recently used ones.
+        if (weight > maxBytes) {
+            Iterator<Map.Entry<PageKey, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext() && weight > maxBytes) {
+                Entry entry = it.next().getValue();
+                if (entry.version != dataVersion) {
+                    it.remove();
+                    weight -= entry.weight;
+                }
+            }
+        }
+        Iterator<Map.Entry<PageKey, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext() && weight > maxBytes) {
+            weight -= it.next().getValue().weight;
+            it.remove();
+            evictionCount++;
+        }
+    }
+
+    private void remove(PageKey key, Entry entry) {
+        entries.remove(key);
+        weight -= entry.weight;
+    }
+
+    private static Page<Entity> copy(Page<Entity> page) {
+        List<Entity> items = new ArrayList<>(page.getItems().size());
+        for (Entity entity : page.getItems()) {
+            items.add(new Entity(entity));
+        }
+        return new Page<>(items, page.getTotalCount());
+    }
+
+    static long weigh(Page<Entity> page) {
+        long bytes = PAGE_OVERHEAD_BYTES;
+        for (Entity entity : page.getItems()) {
+            bytes += ENTITY_OVERHEAD_BYTES + 2L * length(entity.getName()) + 2L * length(entity.getDescription());
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.service.cache;
+
+import org.example.model.EntityStatus;
+import org.example.model.PageCursor;
+
+import java.util.Objects;
+
+// Full shape of a page query: filter, sort, and either a page number or a keyset anchor.
+public final class PageKey {
+    private final String search;
+    private final EntityStatus status;
+    private final String sortBy;
+    private final PageCursor after;
+    private final int page;
+    private final int pageSize;
+
+    private PageKey(String search, EntityStatus status, String sortBy, PageCursor after, int page, int pageSize) {
+        this.search = search == null ? "" : search;
+        this.status = status;
+        this.sortBy = sortBy;
+        this.after = after;
+        this.page = page;
+        this.pageSize = pageSize;
+    }
+
+    public static PageKey offset(String search, EntityStatus status, String sortBy, int page, int pageSize) {
+        return new PageKey(search, status, sortBy, null, page, pageSize);
+    }
+
+    public static PageKey after(String search, EntityStatus status, String sortBy, PageCursor after, int pageSize) {
+        return new PageKey(search, status, sortBy, after, 0, pageSize);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PageKey)) return false;
+        PageKey other = (PageKey) o;
+        return page == other.page
+                && pageSize == other.pageSize
+                && search.equals(other.search)
+                && status == other.status
+                && Objects.equals(sortBy, other.sortBy)
+                && Objects.equals(after, other.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(search, status, sortBy, after, page, pageSize);
+    }
+}
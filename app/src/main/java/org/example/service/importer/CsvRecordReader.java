@@ -0,0 +1,140 @@
+package org.example.service.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 style CSV: a header row naming the columns (name, description and optionally
+ * status, in any order), comma separators, double-quoted fields that may contain commas,
+ * doubled quotes and line breaks.
+ */
+final class CsvRecordReader implements RecordReader {
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long lineNumber;
+    private int nameColumn = -1;
+    private int descriptionColumn = -1;
+    private int statusColumn = -1;
+    private int columnCount;
+    private boolean headerRead;
+
+    CsvRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        if (!headerRead) {
+            readHeader();
+        }
+
+        List<String> fields;
+        long recordLine;
+        do {
+            recordLine = lineNumber + 1;
+            fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        if (fields.size() != columnCount) {
+            return ImportRecord.malformed(recordLine,
+                    "Expected " + columnCount + " columns but found " + fields.size());
+        }
+        return new ImportRecord(recordLine,
+                fields.get(nameColumn),
+                descriptionColumn >= 0 ? emptyToNull(fields.get(descriptionColumn)) : null,
+                statusColumn >= 0 ? emptyToNull(fields.get(statusColumn)) : null);
+    }
+
+    private void readHeader() throws IOException {
+        headerRead = true;
+        List<String> header = readFields();
+        if (header == null) {
+            throw new IOException("CSV input is empty");
+        }
+        columnCount = header.size();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+            if (i == 0 && column.startsWith("\uFEFF")) {
+                column = column.substring(1);
+            }
+            switch (column) {
+                case "name":
+                    nameColumn = i;
+                    break;
+                case "description":
+                    descriptionColumn = i;
+                    break;
+                case "status":
+                    statusColumn = i;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (nameColumn < 0) {
+            throw new IOException("CSV header must contain a 'name' column");
+        }
+    }
+
+    private List<String> readFields() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Line break inside a quoted field.
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Unterminated quoted field starting before line " + lineNumber);
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.service.importer;
+
+import org.example.dao.EntityDao;
+import org.example.model.BatchResult;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.example.util.Validator;
+import org.example.util.Violation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams entities from a CSV or JSONL source into the database. The input is read in
+ * chunks of batchSize rows; chunks are validated in parallel and written in input order,
+ * one batched transaction per chunk. At most 2 * parallelism chunks are held in memory,
+ * so the file size does not matter.
+ */
+public class EntityImporter {
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final EntityDao entityDao;
+    private final Validator validator;
+    private final int batchSize;
+    private final int parallelism;
+
+    public EntityImporter() {
+        this(new EntityDao(), new Validator(), DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public EntityImporter(EntityDao entityDao, Validator validator, int batchSize, int parallelism) {
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Batch size and parallelism must be at least 1");
+        }
+        this.entityDao = entityDao;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    public ImportReport importFile(Path file, ImportFormat format, ImportProgressListener listener) throws IOException, SQLException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importFrom(reader, format, listener);
+        }
+    }
+
+    public ImportReport importFrom(Reader input, ImportFormat format, ImportProgressListener listener) throws IOException, SQLException {
+        long start = System.currentTimeMillis();
+        BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+        RecordReader records = format.open(reader);
+        ImportReport report = new ImportReport();
+
+        ExecutorService validators = Executors.newFixedThreadPool(parallelism, validatorThreads());
+        Deque<Future<ValidatedChunk>> inFlight = new ArrayDeque<>();
+        try {
+            List<ImportRecord> chunk;
+            while (!(chunk = readChunk(records)).isEmpty()) {
+                report.addRowsRead(chunk.size());
+                List<ImportRecord> rows = chunk;
+                inFlight.addLast(validators.submit(() -> validate(rows)));
+                if (inFlight.size() >= parallelism * 2) {
+                    write(await(inFlight.removeFirst()), report, listener);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                write(await(inFlight.removeFirst()), report, listener);
+            }
+        } finally {
+            validators.shutdownNow();
+        }
+
+        report.setElapsedMillis(System.currentTimeMillis() - start);
+        return report;
+    }
+
+    private List<ImportRecord> readChunk(RecordReader records) throws IOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Import was interrupted");
+        }
+        List<ImportRecord> chunk = new ArrayList<>(batchSize);
+        ImportRecord record;
+        while (chunk.size() < batchSize && (record = records.next()) != null) {
+            chunk.add(record);
+        }
+        return chunk;
+    }
+
+    private ValidatedChunk validate(List<ImportRecord> rows) {
+        ValidatedChunk chunk = new ValidatedChunk(rows.size());
+        Violation[] violations = validator.validateAll(rows, row -> row.name, row -> row.description);
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRecord row = rows.get(i);
+            if (row.error != null) {
+                chunk.reject(row.lineNumber, row.error);
+                continue;
+            }
+            if (violations[i] != null) {
+                chunk.reject(row.lineNumber, violations[i].getMessage());
+                continue;
+            }
+            EntityStatus status = parseStatus(row.status);
+            if (status == null) {
+                chunk.reject(row.lineNumber, "Unknown status: " + row.status);
+                continue;
+            }
+            Entity entity = new Entity(row.name, row.description);
+            entity.setStatus(status);
+            chunk.accept(row.lineNumber, entity);
+        }
+        return chunk;
+    }
+
+    // Null for an unknown status; blank means ACTIVE.
+    private static EntityStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return EntityStatus.ACTIVE;
+        }
+        String trimmed = status.trim();
+        for (EntityStatus candidate : EntityStatus.values()) {
+            if (candidate.name().equalsIgnoreCase(trimmed)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void write(ValidatedChunk chunk, ImportReport report, ImportProgressListener listener) throws SQLException {
+        for (int i = 0; i < chunk.rejectedLines.size(); i++) {
+            report.reject(chunk.rejectedLines.get(i), chunk.rejectedReasons.get(i));
+        }
+        if (!chunk.entities.isEmpty()) {
+            BatchResult result = entityDao.saveAll(chunk.entities, batchSize);
+            report.addImported(result.getSavedCount());
+            for (BatchResult.Failure failure : result.getFailures()) {
+                report.reject(chunk.lines.get(failure.getIndex()), failure.getMessage());
+            }
+        }
+        listener.onProgress(report.getRowsRead(), report.getImported(), report.getRejected());
+    }
+
+    private static ValidatedChunk await(Future<ValidatedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Validation failed", e.getCause());
+        }
+    }
+
+    private static ThreadFactory validatorThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "import-validator-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class ValidatedChunk {
+        final List<Entity> entities;
+        final List<Long> lines;
+        final List<Long> rejectedLines = new ArrayList<>();
+        final List<String> rejectedReasons = new ArrayList<>();
+
+        ValidatedChunk(int size) {
+            entities = new ArrayList<>(size);
+            lines = new ArrayList<>(size);
+        }
+
+        void accept(long lineNumber, Entity entity) {
+            entities.add(entity);
+            lines.add(lineNumber);
+        }
+
+        void reject(long lineNumber, String reason) {
+            rejectedLines.add(lineNumber);
+            rejectedReasons.add(reason);
+        }
+    }
+}
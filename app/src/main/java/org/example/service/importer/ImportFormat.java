@@ -0,0 +1,26 @@
+package org.example.service.importer;
+
+import java.io.BufferedReader;
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum ImportFormat {
+    CSV,
+    JSONL;
+
+    RecordReader open(BufferedReader reader) {
+        return this == CSV ? new CsvRecordReader(reader) : new JsonlRecordReader(reader);
+    }
+
+    public static ImportFormat fromFileName(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        // Plain .json files usually hold one array, which is not JSON Lines.
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSONL;
+        }
+        throw new IllegalArgumentException("Unsupported import file type: " + file.getFileName());
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.service.importer;
+
+@FunctionalInterface
+public interface ImportProgressListener {
+    ImportProgressListener NONE = (rowsRead, imported, rejected) -> { };
+
+    void onProgress(long rowsRead, long imported, long rejected);
+}
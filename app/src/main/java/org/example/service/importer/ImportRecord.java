@@ -0,0 +1,25 @@
+package org.example.service.importer;
+
+final class ImportRecord {
+    final long lineNumber;
+    final String name;
+    final String description;
+    final String status;
+    final String error;
+
+    ImportRecord(long lineNumber, String name, String description, String status) {
+        this(lineNumber, name, description, status, null);
+    }
+
+    private ImportRecord(long lineNumber, String name, String description, String status, String error) {
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.description = description;
+        this.status = status;
+        this.error = error;
+    }
+
+    static ImportRecord malformed(long lineNumber, String error) {
+        return new ImportRecord(lineNumber, null, null, null, error);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.service.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ImportReport {
+    // Only the first rejections are kept with their reasons; the count covers all of them.
+    public static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private long elapsedMillis;
+    private final List<Rejection> rejections = new ArrayList<>();
+
+    public static class Rejection {
+        private final long lineNumber;
+        private final String reason;
+
+        public Rejection(long lineNumber, String reason) {
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+        }
+
+        public long getLineNumber() { return lineNumber; }
+
+        public String getReason() { return reason; }
+
+        @Override
+        public String toString() {
+            return "line " + lineNumber + ": " + reason;
+        }
+    }
+
+    void addRowsRead(long count) {
+        rowsRead += count;
+    }
+
+    void addImported(long count) {
+        imported += count;
+    }
+
+    void reject(long lineNumber, String reason) {
+        rejected++;
+        if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+            rejections.add(new Rejection(lineNumber, reason));
+        }
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRowsRead() { return rowsRead; }
+
+    public long getImported() { return imported; }
+
+    public long getRejected() { return rejected; }
+
+    public List<Rejection> getRejections() { return Collections.unmodifiableList(rejections); }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowsRead : rowsRead * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Read %d rows, imported %d, rejected %d in %.1f s (%.0f rows/s)",
+                rowsRead, imported, rejected, elapsedMillis / 1000.0, getRowsPerSecond());
+    }
+}
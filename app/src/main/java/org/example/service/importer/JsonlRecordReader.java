@@ -0,0 +1,174 @@
+package org.example.service.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * One flat JSON object per line, e.g. {"name": "...", "description": "...", "status": "ACTIVE"}.
+ * Unknown keys are ignored; blank lines are skipped.
+ */
+final class JsonlRecordReader implements RecordReader {
+    private final BufferedReader reader;
+    private final StringBuilder buffer = new StringBuilder();
+    private long lineNumber;
+
+    JsonlRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return parseObject(line);
+        } catch (IllegalArgumentException e) {
+            return ImportRecord.malformed(lineNumber, "Malformed JSON: " + e.getMessage());
+        }
+    }
+
+    private ImportRecord parseObject(String line) {
+        String name = null;
+        String description = null;
+        String status = null;
+
+        int[] pos = {skipWhitespace(line, 0)};
+        expect(line, pos, '{');
+        pos[0] = skipWhitespace(line, pos[0]);
+        if (peek(line, pos) != '}') {
+            while (true) {
+                pos[0] = skipWhitespace(line, pos[0]);
+                String key = readString(line, pos);
+                pos[0] = skipWhitespace(line, pos[0]);
+                expect(line, pos, ':');
+                pos[0] = skipWhitespace(line, pos[0]);
+                String value = readValue(line, pos);
+                switch (key) {
+                    case "name":
+                        name = value;
+                        break;
+                    case "description":
+                        description = value;
+                        break;
+                    case "status":
+                        status = value;
+                        break;
+                    default:
+                        break;
+                }
+                pos[0] = skipWhitespace(line, pos[0]);
+                if (peek(line, pos) == ',') {
+                    pos[0]++;
+                    continue;
+                }
+                break;
+            }
+        }
+        expect(line, pos, '}');
+        if (skipWhitespace(line, pos[0]) != line.length()) {
+            throw new IllegalArgumentException("unexpected content after object");
+        }
+        return new ImportRecord(lineNumber, name, description, status);
+    }
+
+    // Strings are returned unescaped, null as null, other literals as their text.
+    private String readValue(String line, int[] pos) {
+        char c = peek(line, pos);
+        if (c == '"') {
+            return readString(line, pos);
+        }
+        if (c == '{' || c == '[') {
+            throw new IllegalArgumentException("nested values are not supported");
+        }
+        int start = pos[0];
+        while (pos[0] < line.length() && ",} \t".indexOf(line.charAt(pos[0])) < 0) {
+            pos[0]++;
+        }
+        String literal = line.substring(start, pos[0]);
+        if (literal.isEmpty()) {
+            throw new IllegalArgumentException("missing value at column " + (start + 1));
+        }
+        return "null".equals(literal) ? null : literal;
+    }
+
+    private String readString(String line, int[] pos) {
+        expect(line, pos, '"');
+        buffer.setLength(0);
+        while (true) {
+            if (pos[0] >= line.length()) {
+                throw new IllegalArgumentException("unterminated string");
+            }
+            char c = line.charAt(pos[0]++);
+            if (c == '"') {
+                return buffer.toString();
+            }
+            if (c != '\\') {
+                buffer.append(c);
+                continue;
+            }
+            if (pos[0] >= line.length()) {
+                throw new IllegalArgumentException("unterminated escape");
+            }
+            char escaped = line.charAt(pos[0]++);
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    buffer.append(escaped);
+                    break;
+                case 'b':
+                    buffer.append('\b');
+                    break;
+                case 'f':
+                    buffer.append('\f');
+                    break;
+                case 'n':
+                    buffer.append('\n');
+                    break;
+                case 'r':
+                    buffer.append('\r');
+                    break;
+                case 't':
+                    buffer.append('\t');
+                    break;
+                case 'u':
+                    if (pos[0] + 4 > line.length()) {
+                        throw new IllegalArgumentException("truncated unicode escape");
+                    }
+                    buffer.append((char) Integer.parseInt(line.substring(pos[0], pos[0] + 4), 16));
+                    pos[0] += 4;
+                    break;
+                default:
+                    throw new IllegalArgumentException("invalid escape \\" + escaped);
+            }
+        }
+    }
+
+    private static char peek(String line, int[] pos) {
+        if (pos[0] >= line.length()) {
+            throw new IllegalArgumentException("unexpected end of line");
+        }
+        return line.charAt(pos[0]);
+    }
+
+    private static void expect(String line, int[] pos, char expected) {
+        if (peek(line, pos) != expected) {
+            throw new IllegalArgumentException("expected '" + expected + "' at column " + (pos[0] + 1));
+        }
+        pos[0]++;
+    }
+
+    private static int skipWhitespace(String line, int pos) {
+        while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.service.importer;
+
+import java.io.IOException;
+
+interface RecordReader {
+    // Next record, or null at end of input. Malformed input yields a record carrying an error.
+    ImportRecord next() throws IOException;
+}
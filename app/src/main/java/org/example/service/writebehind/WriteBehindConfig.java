@@ -0,0 +1,30 @@
+package org.example.service.writebehind;
+
+public class WriteBehindConfig {
+    private int maxBatchSize = 500;
+    private long maxDelayMillis = 5;
+    private int queueCapacity = 10_000;
+
+    // Most writes committed in one transaction.
+    public int getMaxBatchSize() { return maxBatchSize; }
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    // How long the writer waits for more writes after the first one of a group arrives;
+    // the bound on how much queueing adds to a write's commit latency.
+    public long getMaxDelayMillis() { return maxDelayMillis; }
+    public void setMaxDelayMillis(long maxDelayMillis) { this.maxDelayMillis = Math.max(0, maxDelayMillis); }
+
+    // Submitting blocks while this many writes are waiting.
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1");
+        }
+        this.queueCapacity = queueCapacity;
+    }
+}
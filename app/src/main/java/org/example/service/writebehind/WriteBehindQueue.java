@@ -0,0 +1,204 @@
+package org.example.service.writebehind;
+
+import org.example.dao.EntityDao;
+import org.example.dao.EntityWrite;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind for entity writes. Callers enqueue writes and get a future that completes
+ * once the write is committed; a single writer thread drains the queue and commits
+ * everything waiting (up to maxBatchSize, waiting at most maxDelayMillis for more) in one
+ * transaction, so a burst of writes pays for one commit instead of one each.
+ *
+ * Until it is committed, the latest queued write of each entity can be looked up with
+ * pending(), and awaitCommitted() waits until everything queued so far is in the database.
+ */
+public class WriteBehindQueue implements AutoCloseable {
+
+    private static final class Queued {
+        final EntityWrite write;
+        final CompletableFuture<Void> committed = new CompletableFuture<>();
+        long sequence;
+
+        Queued(EntityWrite write) {
+            this.write = write;
+        }
+    }
+
+    private final EntityDao entityDao;
+    private final WriteBehindConfig config;
+    private final Runnable onCommit;
+    private final BlockingQueue<Queued> queue;
+    private final Map<UUID, Queued> pending = new ConcurrentHashMap<>();
+    private final Thread writer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition progress = lock.newCondition();
+    private long submitted;
+    private long completed;
+    private volatile boolean closed;
+
+    // onCommit runs on the writer thread after each group commits, before its futures complete.
+    public WriteBehindQueue(EntityDao entityDao, WriteBehindConfig config, Runnable onCommit) {
+        this.entityDao = entityDao;
+        this.config = config;
+        this.onCommit = onCommit;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.writer = new Thread(this::drain, "entity-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Blocks while the queue is full.
+    public CompletableFuture<Void> submit(EntityWrite write) throws InterruptedException {
+        Queued queued = new Queued(write);
+        lock.lock();
+        try {
+            // Only submitters add to the queue, and only under the lock, so free space cannot
+            // vanish before the offer and sequence numbers follow queue order.
+            while (!closed && queue.remainingCapacity() == 0) {
+                progress.await();
+            }
+            if (closed) {
+                throw new IllegalStateException("Write-behind queue is closed");
+            }
+            queued.sequence = ++submitted;
+            pending.put(write.getId(), queued);
+            queue.offer(queued);
+        } finally {
+            lock.unlock();
+        }
+        return queued.committed;
+    }
+
+    // The latest uncommitted write of the entity, or null if there is none.
+    public EntityWrite pending(UUID id) {
+        Queued queued = pending.get(id);
+        return queued == null ? null : queued.write;
+    }
+
+    // Waits until every write submitted before the call has been committed or has failed.
+    public void awaitCommitted() throws InterruptedException {
+        lock.lock();
+        try {
+            long target = submitted;
+            while (completed < target) {
+                progress.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Stops accepting writes and waits for the queued ones to be committed. The writer is
+    // not interrupted: an interrupt would fail a group that is waiting for the writer
+    // connection. It sees closed within one poll and exits once the queue is empty.
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            progress.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<Queued> group = new ArrayList<>(config.getMaxBatchSize());
+        // Nothing is queued once closed is set, since submit() checks it under the lock.
+        while (!closed || !queue.isEmpty()) {
+            try {
+                Queued first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                collect(group);
+            } catch (InterruptedException e) {
+                // Nothing interrupts the writer; commit whatever was collected.
+                if (group.isEmpty()) {
+                    continue;
+                }
+            }
+            commit(group);
+            group.clear();
+        }
+    }
+
+    private void collect(List<Queued> group) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getMaxDelayMillis());
+        while (group.size() < config.getMaxBatchSize()) {
+            queue.drainTo(group, config.getMaxBatchSize() - group.size());
+            long remaining = deadline - System.nanoTime();
+            if (group.size() >= config.getMaxBatchSize() || remaining <= 0 || closed) {
+                return;
+            }
+            Queued next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            group.add(next);
+        }
+    }
+
+    private void commit(List<Queued> group) {
+        List<EntityWrite> writes = new ArrayList<>(group.size());
+        group.forEach(queued -> writes.add(queued.write));
+
+        SQLException[] failures;
+        Exception groupFailure = null;
+        try {
+            failures = entityDao.applyAll(writes);
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("Error committing queued writes: " + e.getMessage());
+            failures = null;
+            groupFailure = e;
+        }
+
+        try {
+            onCommit.run();
+        } catch (RuntimeException e) {
+            System.err.println("Error after committing queued writes: " + e.getMessage());
+        }
+
+        for (int i = 0; i < group.size(); i++) {
+            Queued queued = group.get(i);
+            pending.remove(queued.write.getId(), queued);
+            Exception failure = groupFailure != null ? groupFailure : failures[i];
+            if (failure == null) {
+                queued.committed.complete(null);
+            } else {
+                if (groupFailure == null) {
+                    System.err.println("Queued write failed: " + failure.getMessage());
+                }
+                queued.committed.completeExceptionally(failure);
+            }
+        }
+
+        lock.lock();
+        try {
+            completed = group.get(group.size() - 1).sequence;
+            progress.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
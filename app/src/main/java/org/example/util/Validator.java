@@ -0,0 +1,103 @@
+package org.example.util;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Entity field rules. The check methods return the first violated rule, or null, without
+ * throwing or allocating; the validate methods throw IllegalArgumentException with the
+ * rule's message. validateAll checks a whole batch of rows in one call.
+ */
+public class Validator {
+    public static final int MIN_NAME_LENGTH = 3;
+    public static final int MAX_NAME_LENGTH = 50;
+    public static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    // Allowed name characters: ASCII letters and digits, whitespace (as \s without
+    // UNICODE_CHARACTER_CLASS: space, \t, \n, \u000B, \f, \r) and - . _
+    // Anything outside the table, including all non-ASCII text, is rejected.
+    private static final boolean[] NAME_CHARS = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            NAME_CHARS[c] = true;
+            NAME_CHARS[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            NAME_CHARS[c] = true;
+        }
+        for (char c : new char[]{' ', '\t', '\n', '\u000B', '\f', '\r', '-', '.', '_'}) {
+            NAME_CHARS[c] = true;
+        }
+    }
+
+    public void validateName(String name) throws IllegalArgumentException {
+        throwIfViolated(checkName(name));
+    }
+
+    public void validateDescription(String description) throws IllegalArgumentException {
+        throwIfViolated(checkDescription(description));
+    }
+
+    public Violation checkName(String name) {
+        if (name == null || isBlank(name)) {
+            return Violation.NAME_EMPTY;
+        }
+
+        int length = name.length();
+        if (length < MIN_NAME_LENGTH || length > MAX_NAME_LENGTH) {
+            return Violation.NAME_LENGTH;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c >= NAME_CHARS.length || !NAME_CHARS[c]) {
+                return Violation.NAME_CHARACTERS;
+            }
+        }
+        return null;
+    }
+
+    public Violation checkDescription(String description) {
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            return Violation.DESCRIPTION_LENGTH;
+        }
+        return null;
+    }
+
+    // Name rules first, then description, as validateName followed by validateDescription.
+    public Violation check(String name, String description) {
+        Violation violation = checkName(name);
+        return violation != null ? violation : checkDescription(description);
+    }
+
+    /**
+     * Checks every row; element i of the result is the first violation of the i-th row in
+     * iteration order, or null if it is valid.
+     */
+    public <T> Violation[] validateAll(Collection<T> rows, Function<? super T, String> name,
+                                       Function<? super T, String> description) {
+        Violation[] violations = new Violation[rows.size()];
+        int i = 0;
+        for (T row : rows) {
+            violations[i++] = check(name.apply(row), description.apply(row));
+        }
+        return violations;
+    }
+
+    // Same test as trim().isEmpty(), without the copy.
+    private static boolean isBlank(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void throwIfViolated(Violation violation) {
+        if (violation != null) {
+            throw new IllegalArgumentException(violation.getMessage());
+        }
+    }
+}
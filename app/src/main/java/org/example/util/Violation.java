@@ -0,0 +1,19 @@
+package org.example.util;
+
+// A failed validation rule. The messages are constants, so reporting a violation allocates nothing.
+public enum Violation {
+    NAME_EMPTY("Name cannot be empty"),
+    NAME_LENGTH("Name must be between " + Validator.MIN_NAME_LENGTH + " and " + Validator.MAX_NAME_LENGTH + " characters"),
+    NAME_CHARACTERS("Name contains invalid characters"),
+    DESCRIPTION_LENGTH("Description cannot exceed " + Validator.MAX_DESCRIPTION_LENGTH + " characters");
+
+    private final String message;
+
+    Violation(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
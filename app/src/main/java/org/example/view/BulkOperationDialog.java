@@ -0,0 +1,103 @@
+package org.example.view;
+
+import org.example.dao.BulkProgressListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+public class BulkOperationDialog extends JDialog {
+    private static final int PROGRESS_STEPS = 1000;
+
+    @FunctionalInterface
+    public interface BulkOperation {
+        long run(BulkProgressListener listener) throws Exception;
+    }
+
+    private final JProgressBar progressBar;
+    private final JLabel statusLabel;
+    private final JButton cancelButton;
+    private final SwingWorker<Long, long[]> worker;
+    private volatile boolean stopRequested;
+
+    public BulkOperationDialog(Frame owner, String title, BulkOperation operation) {
+        super(owner, title, true);
+
+        setLayout(new BorderLayout(5, 5));
+        setSize(420, 140);
+        setLocationRelativeTo(owner);
+        setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+
+        progressBar = new JProgressBar(0, PROGRESS_STEPS);
+        statusLabel = new JLabel("Starting...");
+        cancelButton = new JButton("Cancel");
+
+        JPanel mainPanel = new JPanel(new BorderLayout(5, 5));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        mainPanel.add(statusLabel, BorderLayout.NORTH);
+        mainPanel.add(progressBar, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(cancelButton);
+
+        add(mainPanel, BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        worker = new SwingWorker<>() {
+            @Override
+            protected Long doInBackground() throws Exception {
+                return operation.run((changed, done, total) -> {
+                    publish(new long[]{changed, done, total});
+                    return !stopRequested;
+                });
+            }
+
+            @Override
+            protected void process(List<long[]> chunks) {
+                long[] latest = chunks.get(chunks.size() - 1);
+                progressBar.setValue(latest[2] == 0 ? PROGRESS_STEPS : (int) (latest[1] * PROGRESS_STEPS / latest[2]));
+                if (!stopRequested) {
+                    statusLabel.setText(String.format("%,d entities changed", latest[0]));
+                }
+            }
+
+            @Override
+            protected void done() {
+                dispose();
+            }
+        };
+
+        // The operation stops once the chunk in progress is committed; the dialog stays
+        // open until then. Chunks committed before the stop stay committed.
+        cancelButton.addActionListener(e -> {
+            cancelButton.setEnabled(false);
+            statusLabel.setText("Stopping after the current chunk...");
+            stopRequested = true;
+        });
+    }
+
+    public boolean wasStopped() {
+        return stopRequested;
+    }
+
+    // Runs the operation while the dialog is shown; returns the number of entities changed,
+    // also when it was stopped early (see wasStopped()), or null if it failed.
+    public Long runOperation() {
+        worker.execute();
+        setVisible(true);
+
+        try {
+            return worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            JOptionPane.showMessageDialog(getOwner(),
+                    getTitle() + " failed: " + e.getCause().getMessage(),
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.view;
+
+import org.example.model.Entity;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+// An entity with its cell text formatted once, so painting only reads an array.
+final class EntityRow {
+    static final String[] COLUMN_NAMES = {"ID", "Name", "Description", "Status", "Created", "Updated"};
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Entity entity;
+    private final Object[] cells;
+
+    EntityRow(Entity entity) {
+        this.entity = entity;
+        this.cells = new Object[COLUMN_NAMES.length];
+        for (int column = 0; column < cells.length; column++) {
+            cells[column] = columnValue(entity, column);
+        }
+    }
+
+    static Object columnValue(Entity entity, int columnIndex) {
+        switch (columnIndex) {
+            case 0:
+                return entity.getId().toString().substring(0, 8) + "...";
+            case 1:
+                return entity.getName();
+            case 2:
+                return entity.getDescription();
+            case 3:
+                return entity.getStatus();
+            case 4:
+                return entity.getCreatedAt().format(FORMATTER);
+            case 5:
+                return entity.getUpdatedAt().format(FORMATTER);
+            default:
+                return null;
+        }
+    }
+
+    Entity getEntity() {
+        return entity;
+    }
+
+    Object getCell(int column) {
+        return column >= 0 && column < cells.length ? cells[column] : null;
+    }
+
+    boolean sameId(EntityRow other) {
+        return entity.getId().equals(other.entity.getId());
+    }
+
+    // Same row showing the same text; anything else needs a repaint.
+    boolean sameAs(EntityRow other) {
+        return sameId(other) && Arrays.equals(cells, other.cells);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.view;
+
+import org.example.controller.EntityController;
+import org.example.service.importer.ImportReport;
+
+import javax.swing.*;
+import java.awt.*;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+public class ImportDialog extends JDialog {
+    private final JProgressBar progressBar;
+    private final JLabel statusLabel;
+    private final JButton cancelButton;
+    private final SwingWorker<ImportReport, long[]> worker;
+
+    public ImportDialog(Frame owner, EntityController controller, Path file) {
+        super(owner, "Importing " + file.getFileName(), true);
+
+        setLayout(new BorderLayout(5, 5));
+        setSize(420, 140);
+        setLocationRelativeTo(owner);
+        setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+
+        progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        statusLabel = new JLabel("Starting import...");
+        cancelButton = new JButton("Cancel");
+
+        JPanel mainPanel = new JPanel(new BorderLayout(5, 5));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        mainPanel.add(statusLabel, BorderLayout.NORTH);
+        mainPanel.add(progressBar, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(cancelButton);
+
+        add(mainPanel, BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        worker = new SwingWorker<>() {
+            @Override
+            protected ImportReport doInBackground() throws Exception {
+                return controller.importEntities(file,
+                        (rowsRead, imported, rejected) -> publish(new long[]{rowsRead, imported, rejected}));
+            }
+
+            @Override
+            protected void process(List<long[]> chunks) {
+                long[] latest = chunks.get(chunks.size() - 1);
+                statusLabel.setText(String.format("Read %d rows: %d imported, %d rejected",
+                        latest[0], latest[1], latest[2]));
+            }
+
+            @Override
+            protected void done() {
+                dispose();
+            }
+        };
+
+        cancelButton.addActionListener(e -> {
+            cancelButton.setEnabled(false);
+            statusLabel.setText("Cancelling...");
+            worker.cancel(true);
+        });
+    }
+
+    // Runs the import while the dialog is shown; returns null if it was cancelled or failed.
+    public ImportReport runImport() {
+        worker.execute();
+        setVisible(true);
+
+        try {
+            return worker.get();
+        } catch (CancellationException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            JOptionPane.showMessageDialog(getOwner(),
+                    "Error importing entities: " + e.getCause().getMessage(),
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+    }
+}
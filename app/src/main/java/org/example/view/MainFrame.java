@@ -0,0 +1,454 @@
+package org.example.view;
+
+import org.example.controller.EntityController;
+import org.example.dao.OptimisticLockException;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.example.service.importer.ImportReport;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+public class MainFrame extends JFrame {
+    // Continuations of controller futures run here, so they may touch Swing components.
+    private static final Executor EDT = SwingUtilities::invokeLater;
+    private static final int SEARCH_DEBOUNCE_MILLIS = 300;
+
+    private final EntityController controller;
+    private final VirtualTableModel tableModel;
+    private final JTable table;
+    private final JTextField searchField;
+    private final JComboBox<EntityStatus> filterComboBox;
+    private final JComboBox<String> sortComboBox;
+    private final JProgressBar loadingIndicator;
+    private final JLabel statusLabel;
+    // Separate from statusLabel, which every table change rewrites with the row count.
+    private final JLabel errorLabel;
+    private final Timer searchDebounce;
+    private int pendingRequests;
+    private boolean refreshScheduled;
+    private boolean queryChanged = true;
+    // The filter of the rows on screen; "all matching" actions apply to it.
+    private String shownSearch;
+    private EntityStatus shownStatus;
+
+    public MainFrame() {
+        this(new EntityController());
+    }
+
+    public MainFrame(EntityController controller) {
+        this.controller = controller;
+
+        setTitle("CRUD Application - Entity Management");
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setSize(1000, 600);
+        setLocationRelativeTo(null);
+
+        statusLabel = new JLabel(" ");
+        errorLabel = new JLabel();
+        errorLabel.setForeground(Color.RED);
+        // Rows are fetched in blocks as they scroll into view, so there is no paging.
+        tableModel = new VirtualTableModel(EDT,
+                error -> errorLabel.setText("Error loading entities: " + error.getMessage()));
+        tableModel.addTableModelListener(e ->
+                statusLabel.setText(String.format("%,d entities", tableModel.getRowCount())));
+        table = new JTable(tableModel);
+        table.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+
+        JToolBar toolBar = new JToolBar();
+        toolBar.setFloatable(false);
+
+        JButton addButton = new JButton("Add New");
+        JButton editButton = new JButton("Edit");
+        JButton deleteButton = new JButton("Delete");
+        JButton statusButton = new JButton("Set Status...");
+        JButton matchingButton = new JButton("All Matching \u25BE");
+        JButton importButton = new JButton("Import...");
+        JButton refreshButton = new JButton("Refresh");
+
+        addButton.addActionListener(e -> addEntity());
+        editButton.addActionListener(e -> editEntity());
+        deleteButton.addActionListener(e -> deleteEntity());
+        statusButton.addActionListener(e -> changeSelectedStatus());
+
+        JPopupMenu matchingMenu = new JPopupMenu();
+        JMenuItem matchingStatusItem = new JMenuItem("Set Status of All Matching...");
+        JMenuItem matchingDeleteItem = new JMenuItem("Delete All Matching...");
+        matchingStatusItem.addActionListener(e -> changeMatchingStatus());
+        matchingDeleteItem.addActionListener(e -> deleteMatching());
+        matchingMenu.add(matchingStatusItem);
+        matchingMenu.add(matchingDeleteItem);
+        matchingButton.addActionListener(e -> matchingMenu.show(matchingButton, 0, matchingButton.getHeight()));
+        importButton.addActionListener(e -> importEntities());
+        refreshButton.addActionListener(e -> {
+            controller.invalidateCaches();
+            requestRefresh();
+        });
+
+        toolBar.add(addButton);
+        toolBar.add(editButton);
+        toolBar.add(deleteButton);
+        toolBar.add(statusButton);
+        toolBar.add(matchingButton);
+        toolBar.addSeparator();
+        toolBar.add(importButton);
+        toolBar.add(refreshButton);
+
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+
+        filterPanel.add(new JLabel("Search:"));
+        searchField = new JTextField(20);
+        // Typing restarts the timer, so a burst of keystrokes becomes one query.
+        searchDebounce = new Timer(SEARCH_DEBOUNCE_MILLIS, e -> filtersChanged());
+        searchDebounce.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { searchDebounce.restart(); }
+            @Override
+            public void removeUpdate(DocumentEvent e) { searchDebounce.restart(); }
+            @Override
+            public void changedUpdate(DocumentEvent e) { searchDebounce.restart(); }
+        });
+        filterPanel.add(searchField);
+
+        filterPanel.add(new JLabel("Status:"));
+        filterComboBox = new JComboBox<>(EntityStatus.values());
+        filterComboBox.insertItemAt(null, 0);
+        filterComboBox.setSelectedIndex(0);
+        filterComboBox.addActionListener(e -> filtersChanged());
+        filterPanel.add(filterComboBox);
+
+        filterPanel.add(new JLabel("Sort by:"));
+        sortComboBox = new JComboBox<>(new String[]{"Name", "Created Date", "Updated Date"});
+        sortComboBox.addActionListener(e -> filtersChanged());
+        filterPanel.add(sortComboBox);
+
+        loadingIndicator = new JProgressBar();
+        loadingIndicator.setIndeterminate(true);
+        loadingIndicator.setPreferredSize(new Dimension(80, 14));
+        loadingIndicator.setVisible(false);
+        JPanel statusPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        statusPanel.add(errorLabel);
+        statusPanel.add(statusLabel);
+        statusPanel.add(loadingIndicator);
+
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        bottomPanel.add(filterPanel, BorderLayout.CENTER);
+        bottomPanel.add(statusPanel, BorderLayout.EAST);
+
+        setLayout(new BorderLayout());
+
+        add(toolBar, BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(bottomPanel, BorderLayout.SOUTH);
+
+        requestRefresh();
+    }
+
+    private void filtersChanged() {
+        searchDebounce.stop();
+        table.scrollRectToVisible(new Rectangle());
+        queryChanged = true;
+        requestRefresh();
+    }
+
+    // Refresh requests made in the same event-loop turn are coalesced into one query.
+    private void requestRefresh() {
+        if (refreshScheduled) {
+            return;
+        }
+        refreshScheduled = true;
+        SwingUtilities.invokeLater(() -> {
+            refreshScheduled = false;
+            refreshTable();
+        });
+    }
+
+    private void addEntity() {
+        EntityDialog dialog = new EntityDialog(this, "Add New Entity", null);
+        dialog.setVisible(true);
+
+        if (dialog.isConfirmed()) {
+            track(controller.createEntityAsync(dialog.getName(), dialog.getDescription()))
+                    .whenCompleteAsync((ignored, error) -> {
+                        if (error != null) {
+                            showError("Error creating entity: ", error);
+                            return;
+                        }
+                        JOptionPane.showMessageDialog(this, "Entity created successfully!");
+                        requestRefresh();
+                    }, EDT);
+        }
+    }
+
+    private void editEntity() {
+        int selectedRow = table.getSelectedRow();
+        if (selectedRow == -1) {
+            JOptionPane.showMessageDialog(this,
+                    "Please select an entity to edit",
+                    "No Selection",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        Entity entity = tableModel.getEntityAt(selectedRow);
+        if (entity == null) {
+            return;
+        }
+        EntityDialog dialog = new EntityDialog(this, "Edit Entity", entity);
+        dialog.setVisible(true);
+
+        if (dialog.isConfirmed()) {
+            // Only the fields the dialog changed are written, and only if nobody else has
+            // changed the row since it was loaded.
+            Entity edited = new Entity(entity);
+            edited.setName(dialog.getName());
+            edited.setDescription(dialog.getDescription());
+            edited.setStatus(dialog.getStatus());
+
+            track(controller.updateEntityAsync(edited)).whenCompleteAsync((ignored, error) -> {
+                if (error != null) {
+                    showError("Error updating entity: ", error);
+                    if (rootCause(error) instanceof OptimisticLockException) {
+                        requestRefresh();
+                    }
+                    return;
+                }
+                JOptionPane.showMessageDialog(this, "Entity updated successfully!");
+                requestRefresh();
+            }, EDT);
+        }
+    }
+
+    private void deleteEntity() {
+        int selectedRow = table.getSelectedRow();
+        if (selectedRow == -1) {
+            JOptionPane.showMessageDialog(this,
+                    "Please select an entity to delete",
+                    "No Selection",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (table.getSelectedRowCount() > 1) {
+            deleteSelected();
+            return;
+        }
+
+        Entity entity = tableModel.getEntityAt(selectedRow);
+        if (entity == null) {
+            return;
+        }
+        int confirm = JOptionPane.showConfirmDialog(this,
+                "Are you sure you want to delete entity: " + entity.getName() + "?",
+                "Confirm Delete",
+                JOptionPane.YES_NO_OPTION);
+
+        if (confirm == JOptionPane.YES_OPTION) {
+            track(controller.deleteEntityAsync(entity.getId())).whenCompleteAsync((ignored, error) -> {
+                if (error != null) {
+                    showError("Error deleting entity: ", error);
+                    return;
+                }
+                JOptionPane.showMessageDialog(this, "Entity deleted successfully!");
+                requestRefresh();
+            }, EDT);
+        }
+    }
+
+    // Selecting every row (Ctrl+A) means "all matching": the rows need not be loaded.
+    private boolean allRowsSelected() {
+        return table.getSelectedRowCount() == tableModel.getRowCount();
+    }
+
+    private void deleteSelected() {
+        if (allRowsSelected()) {
+            deleteMatching();
+            return;
+        }
+        List<UUID> ids = selectedIds();
+        if (ids == null) {
+            return;
+        }
+        int confirm = JOptionPane.showConfirmDialog(this,
+                String.format("Are you sure you want to delete %,d entities?", ids.size()),
+                "Confirm Delete",
+                JOptionPane.YES_NO_OPTION);
+        if (confirm == JOptionPane.YES_OPTION) {
+            runBulk("Deleting entities", listener -> controller.deleteEntities(ids, listener), "deleted");
+        }
+    }
+
+    private void changeSelectedStatus() {
+        if (table.getSelectedRowCount() == 0) {
+            JOptionPane.showMessageDialog(this,
+                    "Please select the entities to change",
+                    "No Selection",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (allRowsSelected()) {
+            changeMatchingStatus();
+            return;
+        }
+        List<UUID> ids = selectedIds();
+        if (ids == null) {
+            return;
+        }
+        EntityStatus status = askStatus(String.format("New status for %,d entities:", ids.size()));
+        if (status != null) {
+            runBulk("Changing status", listener -> controller.changeStatus(ids, status, listener), "updated");
+        }
+    }
+
+    private void changeMatchingStatus() {
+        String search = shownSearch;
+        EntityStatus filterStatus = shownStatus;
+        EntityStatus status = askStatus(String.format("New status for all %,d entities matching the current filter:",
+                tableModel.getRowCount()));
+        if (status != null) {
+            runBulk("Changing status",
+                    listener -> controller.changeStatusMatching(search, filterStatus, status, listener), "updated");
+        }
+    }
+
+    private void deleteMatching() {
+        String search = shownSearch;
+        EntityStatus filterStatus = shownStatus;
+        int confirm = JOptionPane.showConfirmDialog(this,
+                String.format("Are you sure you want to delete all %,d entities matching the current filter?",
+                        tableModel.getRowCount()),
+                "Confirm Delete",
+                JOptionPane.YES_NO_OPTION);
+        if (confirm == JOptionPane.YES_OPTION) {
+            runBulk("Deleting entities", listener -> controller.deleteMatching(search, filterStatus, listener), "deleted");
+        }
+    }
+
+    // Ids of the selected rows, or null (after telling the user) if some are still loading.
+    private List<UUID> selectedIds() {
+        int[] rows = table.getSelectedRows();
+        List<UUID> ids = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            Entity entity = tableModel.getEntityAt(row);
+            if (entity == null) {
+                JOptionPane.showMessageDialog(this,
+                        "Some selected rows are still loading. Try again, or use the All Matching actions.",
+                        "Rows Loading",
+                        JOptionPane.WARNING_MESSAGE);
+                return null;
+            }
+            ids.add(entity.getId());
+        }
+        return ids;
+    }
+
+    private EntityStatus askStatus(String message) {
+        return (EntityStatus) JOptionPane.showInputDialog(this, message, "Set Status",
+                JOptionPane.QUESTION_MESSAGE, null, EntityStatus.values(), EntityStatus.ARCHIVED);
+    }
+
+    private void runBulk(String title, BulkOperationDialog.BulkOperation operation, String verb) {
+        BulkOperationDialog dialog = new BulkOperationDialog(this, title, operation);
+        Long changed = dialog.runOperation();
+        if (changed != null) {
+            JOptionPane.showMessageDialog(this, String.format(
+                    dialog.wasStopped() ? "Stopped: %,d entities %s." : "%,d entities %s.", changed, verb));
+        }
+        // Chunks committed before a failure or stop are visible too.
+        requestRefresh();
+    }
+
+    private void importEntities() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter(
+                "CSV or JSON Lines (*.csv, *.jsonl, *.ndjson)", "csv", "jsonl", "ndjson"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        ImportDialog dialog = new ImportDialog(this, controller, chooser.getSelectedFile().toPath());
+        ImportReport report = dialog.runImport();
+        if (report == null) {
+            requestRefresh();
+            return;
+        }
+
+        String message = report.toString();
+        if (report.getRejected() > 0) {
+            message += "\n\nFirst rejected rows:\n" + report.getRejections().stream()
+                    .limit(10)
+                    .map(Object::toString)
+                    .collect(Collectors.joining("\n"));
+        }
+        JOptionPane.showMessageDialog(this, message, "Import finished",
+                report.getRejected() > 0 ? JOptionPane.WARNING_MESSAGE : JOptionPane.INFORMATION_MESSAGE);
+        filtersChanged();
+    }
+
+    // Reloading cancels whatever the table model still has in flight for the old query.
+    // When only the data changed, the model keeps its rows and re-reads them in place.
+    private void refreshTable() {
+        errorLabel.setText("");
+        if (!queryChanged) {
+            tableModel.reload();
+            return;
+        }
+        queryChanged = false;
+
+        String search = searchField.getText().trim();
+        EntityStatus status = (EntityStatus) filterComboBox.getSelectedItem();
+        String sortBy = getSortByValue();
+        shownSearch = search;
+        shownStatus = status;
+
+        tableModel.reload((after, offset, limit, token) -> track(after != null || offset == 0
+                ? controller.getPageAfterAsync(search, status, sortBy, after, limit, token)
+                : controller.getPageAsync(search, status, sortBy, offset / limit + 1, limit, token)));
+    }
+
+    // Shows the loading indicator while any controller call is in flight.
+    private <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        pendingRequests++;
+        loadingIndicator.setVisible(true);
+        future.whenCompleteAsync((result, error) -> {
+            pendingRequests--;
+            loadingIndicator.setVisible(pendingRequests > 0);
+        }, EDT);
+        return future;
+    }
+
+    private void showError(String prefix, Throwable error) {
+        JOptionPane.showMessageDialog(this,
+                prefix + rootCause(error).getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE);
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private String getSortByValue() {
+        String selected = (String) sortComboBox.getSelectedItem();
+        switch (selected) {
+            case "Name":
+                return "name";
+            case "Created Date":
+                return "createdAt";
+            case "Updated Date":
+                return "updatedAt";
+            default:
+                return "createdAt";
+        }
+    }
+}
\ No newline at end of file
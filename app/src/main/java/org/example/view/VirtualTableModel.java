@@ -0,0 +1,268 @@
+package org.example.view;
+
+import org.example.dao.CancellationToken;
+import org.example.dao.QueryCancelledException;
+import org.example.model.Entity;
+import org.example.model.Page;
+import org.example.model.PageCursor;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Table model over the whole result set. It reports the true row count but only holds a
+ * bounded window of fixed-size blocks; a block is fetched when one of its rows is first
+ * rendered. A block whose predecessor's last row is known is read with a keyset seek;
+ * otherwise (the scrollbar jumped) it falls back to an offset read. Once a block that was
+ * asked for is in, its neighbours are prefetched, so scrolling on in either direction
+ * finds them already loaded.
+ *
+ * After a data change the loaded blocks stay on screen, marked stale, and are read again
+ * as they are rendered. A reloaded block is matched against the rows it showed by id, so
+ * insertions and deletions are reported where they happened and only rows whose text
+ * changed are repainted; the selection stays on the same entity across a refresh.
+ *
+ * All methods must be called on one thread, normally the EDT; loader results are handed
+ * back through the callback executor.
+ */
+public class VirtualTableModel extends AbstractTableModel {
+    public static final int BLOCK_SIZE = 200;
+    public static final int MAX_BLOCKS = 16;
+    // Older reads are cancelled when more are in flight; their rows were scrolled past.
+    public static final int MAX_LOADS = 4;
+    // Block end cursors are tiny, so many more are kept than blocks.
+    private static final int MAX_CURSORS = 4096;
+    static final String LOADING = "Loading...";
+
+    public interface BlockLoader {
+        // after is the last row before the block, or null when only offset is known
+        // (offset is always a multiple of limit).
+        CompletableFuture<Page<Entity>> load(PageCursor after, int offset, int limit, CancellationToken token);
+    }
+
+    private final Executor callbackExecutor;
+    private final Consumer<Throwable> errorHandler;
+    private final Map<Integer, List<EntityRow>> blocks = new LinkedHashMap<>(MAX_BLOCKS, 0.75f, true);
+    private final Set<Integer> stale = new HashSet<>();
+    private final Map<Integer, PageCursor> blockEnds = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<Integer, CancellationToken> loads = new LinkedHashMap<>();
+    private BlockLoader loader;
+    private int rowCount;
+    private long generation;
+
+    public VirtualTableModel(Executor callbackExecutor, Consumer<Throwable> errorHandler) {
+        this.callbackExecutor = callbackExecutor;
+        this.errorHandler = errorHandler;
+    }
+
+    // A new filter or sort: nothing loaded so far applies.
+    public void reload(BlockLoader loader) {
+        this.loader = loader;
+        blocks.clear();
+        stale.clear();
+        fireTableDataChanged();
+        restart();
+    }
+
+    // Same query, changed data: keep showing what is loaded until it is read again.
+    public void reload() {
+        stale.addAll(blocks.keySet());
+        restart();
+    }
+
+    private void restart() {
+        generation++;
+        loads.values().forEach(CancellationToken::cancel);
+        loads.clear();
+        blockEnds.clear();
+        // The first block also supplies the row count.
+        requestBlock(0, false);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return EntityRow.COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return EntityRow.COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        EntityRow row = rowAt(rowIndex);
+        if (row == null) {
+            return columnIndex == 1 ? LOADING : null;
+        }
+        return row.getCell(columnIndex);
+    }
+
+    // Null until the row's block has been loaded; asks for it in that case.
+    public Entity getEntityAt(int rowIndex) {
+        EntityRow row = rowAt(rowIndex);
+        return row == null ? null : row.getEntity();
+    }
+
+    public int getLoadedBlockCount() {
+        return blocks.size();
+    }
+
+    private EntityRow rowAt(int rowIndex) {
+        int block = rowIndex / BLOCK_SIZE;
+        List<EntityRow> rows = blocks.get(block);
+        if (rows == null || stale.contains(block)) {
+            requestBlock(block, false);
+            // Present if the loader answered synchronously.
+            rows = blocks.get(block);
+            if (rows == null) {
+                return null;
+            }
+        }
+        int index = rowIndex % BLOCK_SIZE;
+        return index < rows.size() ? rows.get(index) : null;
+    }
+
+    // Prefetches never cancel another read and are skipped when the slots are taken.
+    private void requestBlock(int block, boolean prefetch) {
+        if (loader == null || loads.containsKey(block)) {
+            return;
+        }
+        if (prefetch && (loads.size() >= MAX_LOADS || (blocks.containsKey(block) && !stale.contains(block)))) {
+            return;
+        }
+        if (loads.size() >= MAX_LOADS) {
+            Iterator<CancellationToken> oldest = loads.values().iterator();
+            oldest.next().cancel();
+            oldest.remove();
+        }
+
+        CancellationToken token = new CancellationToken();
+        loads.put(block, token);
+        long requestGeneration = generation;
+        PageCursor after = block == 0 ? null : blockEnds.get(block - 1);
+
+        loader.load(after, block * BLOCK_SIZE, BLOCK_SIZE, token).whenCompleteAsync((page, error) -> {
+            if (requestGeneration != generation || loads.get(block) != token) {
+                return;
+            }
+            loads.remove(block);
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (!(cause instanceof QueryCancelledException)) {
+                    errorHandler.accept(cause);
+                }
+                return;
+            }
+            blockLoaded(block, page);
+            // Only blocks that were asked for pull in neighbours; prefetches do not chain.
+            if (!prefetch) {
+                prefetchAround(block);
+            }
+        }, callbackExecutor);
+    }
+
+    private void prefetchAround(int block) {
+        if ((block + 1) * BLOCK_SIZE < rowCount) {
+            requestBlock(block + 1, true);
+        }
+        if (block > 0) {
+            requestBlock(block - 1, true);
+        }
+    }
+
+    private void blockLoaded(int block, Page<Entity> page) {
+        List<EntityRow> rows = new ArrayList<>(page.getItems().size());
+        page.getItems().forEach(entity -> rows.add(new EntityRow(entity)));
+        List<EntityRow> previous = blocks.put(block, rows);
+        stale.remove(block);
+        if (blocks.size() > MAX_BLOCKS) {
+            Iterator<Integer> leastRecent = blocks.keySet().iterator();
+            stale.remove(leastRecent.next());
+            leastRecent.remove();
+        }
+        if (!rows.isEmpty()) {
+            blockEnds.put(block, PageCursor.of(rows.get(rows.size() - 1).getEntity()));
+            if (blockEnds.size() > MAX_CURSORS) {
+                Iterator<Integer> leastRecent = blockEnds.keySet().iterator();
+                leastRecent.next();
+                leastRecent.remove();
+            }
+        }
+
+        int base = block * BLOCK_SIZE;
+        if (previous != null && base <= rowCount) {
+            // Rows past the current end were already reported as deleted.
+            List<EntityRow> shown = new ArrayList<>(previous.subList(0, Math.min(previous.size(), rowCount - base)));
+            diffBlock(base, shown, rows);
+        }
+
+        int oldCount = rowCount;
+        rowCount = page.getTotalCount();
+        if (rowCount > oldCount) {
+            fireTableRowsInserted(oldCount, rowCount - 1);
+        } else if (rowCount < oldCount) {
+            fireTableRowsDeleted(rowCount, oldCount - 1);
+        }
+    }
+
+    // Turns the rows shown for a block into the reloaded ones, matching them by id, and
+    // reports each deletion and insertion where it happened. A full block keeps its size,
+    // so a row pushed over its edge is deleted here and inserted by the next block.
+    private void diffBlock(int base, List<EntityRow> shown, List<EntityRow> rows) {
+        Set<UUID> ids = new HashSet<>();
+        rows.forEach(row -> ids.add(row.getEntity().getId()));
+        for (int i = shown.size() - 1; i >= 0; i--) {
+            if (!ids.contains(shown.get(i).getEntity().getId())) {
+                shown.remove(i);
+                rowCount--;
+                fireTableRowsDeleted(base + i, base + i);
+            }
+        }
+
+        // What is left is a subsequence of rows by id, possibly reordered.
+        for (int i = 0; i < rows.size(); i++) {
+            EntityRow row = rows.get(i);
+            if (i < shown.size() && shown.get(i).sameId(row)) {
+                if (!shown.get(i).sameAs(row)) {
+                    fireTableRowsUpdated(base + i, base + i);
+                }
+                continue;
+            }
+            int moved = indexOf(shown, row, i + 1);
+            if (moved >= 0) {
+                shown.remove(moved);
+                rowCount--;
+                fireTableRowsDeleted(base + moved, base + moved);
+            }
+            shown.add(i, row);
+            rowCount++;
+            fireTableRowsInserted(base + i, base + i);
+        }
+    }
+
+    private static int indexOf(List<EntityRow> shown, EntityRow row, int from) {
+        for (int i = from; i < shown.size(); i++) {
+            if (shown.get(i).sameId(row)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -2,9 +2,12 @@ package org.example.controller;
 
 import org.example.model.Entity;
 import org.example.model.EntityStatus;
+import org.example.model.Page;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 
 class EntityControllerTest {
@@ -183,4 +186,24 @@ class EntityControllerTest {
             assertEquals("Bravo", byDate.get(0).getName()); // Последний созданный
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAsyncCalls() throws Exception {
+        entityController.createEntityAsync("Async Entity", "Created off the caller thread").get(5, TimeUnit.SECONDS);
+
+        Page<Entity> page = entityController.getPageAfterAsync("Async Entity", null, "name", null, 10)
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(1, page.getTotalCount());
+        Entity entity = page.getItems().get(0);
+
+        entityController.deleteEntityAsync(entity.getId()).get(5, TimeUnit.SECONDS);
+        assertNull(entityController.getEntity(entity.getId()));
+    }
+
+    @Test
+    void testAsyncFailureCompletesExceptionally() {
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> entityController.createEntityAsync("AB", null).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.dao;
+
+import org.junit.jupiter.api.Test;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusyRetryTest {
+
+    private static SQLException busy() {
+        // SQLITE_BUSY_SNAPSHOT: extended code whose low byte is SQLITE_BUSY.
+        return new SQLException("database is locked", null, 517);
+    }
+
+    @Test
+    void testBusyWorkIsRetried() throws SQLException {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = BusyRetry.run(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw busy();
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testOtherErrorsAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        SQLException e = assertThrows(SQLException.class, () -> BusyRetry.run(() -> {
+            attempts.incrementAndGet();
+            throw new SQLException("constraint failed", null, 19);
+        }));
+
+        assertEquals(19, e.getErrorCode());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(SQLException.class, () -> BusyRetry.run(() -> {
+            attempts.incrementAndGet();
+            throw busy();
+        }));
+
+        assertEquals(BusyRetry.MAX_ATTEMPTS, attempts.get());
+    }
+}
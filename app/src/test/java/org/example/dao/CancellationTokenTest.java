@@ -0,0 +1,42 @@
+package org.example.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CancellationTokenTest {
+
+    @Test
+    void testCancelledTokenFailsBeforeQuerying() {
+        EntityDao dao = new EntityDao();
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        assertTrue(token.isCancelled());
+        assertThrows(QueryCancelledException.class,
+                () -> dao.findPageAfter(null, null, "name", null, 10, token));
+    }
+
+    @Test
+    void testCancelInterruptsRunningStatement() throws Exception {
+        String endless = "WITH RECURSIVE n(i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n) SELECT count(*) FROM n";
+        CancellationToken token = new CancellationToken();
+
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite::memory:");
+             PreparedStatement pstmt = conn.prepareStatement(endless)) {
+            token.attach(pstmt);
+            CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(token::cancel);
+
+            SQLException e = assertThrows(SQLException.class, pstmt::executeQuery);
+            assertEquals(9, e.getErrorCode(), "SQLITE_INTERRUPT");
+            token.detach();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.dao;
+
+import org.example.dao.pool.ConnectionPool;
+import org.example.model.Entity;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.SQLException;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseConnectionTest {
+
+    @Test
+    void testGetConnection() throws SQLException {
+        Connection connection = DatabaseConnection.getConnection();
+        assertNotNull(connection);
+        assertFalse(connection.isClosed());
+
+        connection.close();
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    void testPooledConnectionReuse() throws SQLException {
+        Connection conn1 = DatabaseConnection.getConnection();
+        Connection physical1 = conn1.unwrap(Connection.class);
+        conn1.close();
+        assertTrue(conn1.isClosed());
+        assertFalse(physical1.isClosed());
+
+        Connection conn2 = DatabaseConnection.getConnection();
+        assertSame(physical1, conn2.unwrap(Connection.class));
+        assertFalse(conn2.isClosed());
+
+        conn2.close();
+        assertTrue(conn2.isClosed());
+    }
+
+    @Test
+    void testDatabaseInitialization() throws SQLException {
+        Connection conn = DatabaseConnection.getConnection();
+
+        var stmt = conn.createStatement();
+        var rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type='table' AND name='entities'");
+
+        assertTrue(rs.next());
+        assertEquals("entities", rs.getString("name"));
+
+        rs.close();
+        stmt.close();
+    }
+
+    @Test
+    void testWalModeSeparatesReadersAndWriter() throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection();
+             var stmt = conn.createStatement();
+             var rs = stmt.executeQuery("PRAGMA journal_mode")) {
+            assertTrue(rs.next());
+            assertEquals("wal", rs.getString(1));
+        }
+
+        try (Connection reader = DatabaseConnection.getReadDataSource().getConnection();
+             var stmt = reader.createStatement()) {
+            SQLException e = assertThrows(SQLException.class, () -> stmt.execute("DELETE FROM entities WHERE 0"));
+            assertEquals(8, e.getErrorCode() & 0xff, "SQLITE_READONLY");
+        }
+
+        ConnectionPool writer = (ConnectionPool) DatabaseConnection.getWriteDataSource();
+        new EntityDao().save(new Entity("Writer Entity", null));
+        assertEquals(1, writer.getTotalCount());
+    }
+
+    @Test
+    void testDefaultProfileSyncsEveryCommit() throws SQLException {
+        assertEquals(SqliteProfile.DURABLE, new StorageConfig().getProfile());
+
+        try (Connection writer = DatabaseConnection.getWriteDataSource().getConnection();
+             var stmt = writer.createStatement();
+             var rs = stmt.executeQuery("PRAGMA synchronous")) {
+            assertTrue(rs.next());
+            assertEquals(2, rs.getInt(1), "FULL");
+        }
+    }
+}
@@ -0,0 +1,622 @@
+package org.example.dao;
+
+import org.example.dao.pool.ConnectionPool;
+import org.example.model.BatchResult;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.example.model.Page;
+import org.example.model.PageCursor;
+import org.junit.jupiter.api.*;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EntityDaoTest {
+
+    private EntityDao entityDao;
+
+    @BeforeAll
+    void setupAll() throws SQLException {
+        entityDao = new EntityDao();
+    }
+
+    @BeforeEach
+    void clearDatabase() throws SQLException {
+        try (var conn = DatabaseConnection.getConnection();
+             var stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM entities");
+        }
+    }
+
+    @Test
+    void testSaveEntity() throws SQLException {
+        Entity entity = new Entity("Test Save", "Test Description");
+
+        entityDao.save(entity);
+
+        Entity found = entityDao.findById(entity.getId());
+
+        assertNotNull(found);
+        assertEquals(entity.getId(), found.getId());
+        assertEquals("Test Save", found.getName());
+        assertEquals("Test Description", found.getDescription());
+        assertEquals(EntityStatus.ACTIVE, found.getStatus());
+    }
+
+    @Test
+    void testSaveAllReportsFailingRows() throws SQLException {
+        Entity existing = new Entity("Existing", "Desc");
+        entityDao.save(existing);
+
+        Entity duplicate = new Entity("Duplicate", "Desc");
+        duplicate.setId(existing.getId());
+        Entity tooShort = new Entity("AB", "Violates the name length check");
+
+        List<Entity> batch = List.of(
+                new Entity("Batch 1", "Desc"),
+                duplicate,
+                new Entity("Batch 2", "Desc"),
+                new Entity("Batch 3", "Desc"),
+                tooShort);
+
+        BatchResult result = entityDao.saveAll(batch, 2);
+
+        assertEquals(3, result.getSavedCount());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals(4, result.getFailures().get(1).getIndex());
+        assertEquals(4, entityDao.count(null, null));
+        assertEquals("Existing", entityDao.findById(existing.getId()).getName());
+    }
+
+    @Test
+    void testFindByIdNotFound() throws SQLException {
+        UUID fakeId = UUID.randomUUID();
+
+        Entity result = entityDao.findById(fakeId);
+
+        assertNull(result);
+    }
+
+    @Test
+    void testUpdateEntity() throws SQLException {
+        Entity entity = new Entity("Original", "Original Desc");
+        entityDao.save(entity);
+
+        entity.setName("Updated Name");
+        entity.setDescription("Updated Desc");
+        entity.setStatus(EntityStatus.INACTIVE);
+
+        entityDao.update(entity);
+
+        Entity updated = entityDao.findById(entity.getId());
+
+        assertEquals("Updated Name", updated.getName());
+        assertEquals("Updated Desc", updated.getDescription());
+        assertEquals(EntityStatus.INACTIVE, updated.getStatus());
+    }
+
+    @Test
+    void testDeleteEntity() throws SQLException {
+        Entity entity = new Entity("To Delete", "Description");
+        entityDao.save(entity);
+
+        entityDao.delete(entity.getId());
+
+        Entity deleted = entityDao.findById(entity.getId());
+        assertNull(deleted);
+    }
+
+    @Test
+    void testFindAll() throws SQLException {
+        entityDao.save(new Entity("Entity 1", "Desc 1"));
+        entityDao.save(new Entity("Entity 2", "Desc 2"));
+
+        List<Entity> all = entityDao.findAll(null, null, null, 0, 10);
+
+        assertEquals(2, all.size());
+    }
+
+    @Test
+    void testFindAllWithSearch() throws SQLException {
+        entityDao.save(new Entity("Apple iPhone", "Smartphone"));
+        entityDao.save(new Entity("Samsung Phone", "Android phone"));
+        entityDao.save(new Entity("MacBook", "Laptop"));
+
+        List<Entity> phoneResults = entityDao.findAll("phone", null, null, 0, 10);
+        assertEquals(2, phoneResults.size());
+
+        List<Entity> appleResults = entityDao.findAll("Apple", null, null, 0, 10);
+        assertEquals(1, appleResults.size());
+    }
+
+    @Test
+    void testSearchIndexFollowsUpdatesAndDeletes() throws SQLException {
+        Entity entity = new Entity("Old Name", "Nothing special");
+        entityDao.save(entity);
+        assertEquals(1, entityDao.count("old", null));
+
+        entity.setName("Fresh Name");
+        entityDao.update(entity);
+        assertEquals(0, entityDao.count("old", null));
+        assertEquals(1, entityDao.count("FRESH", null));
+
+        entityDao.delete(entity.getId());
+        assertEquals(0, entityDao.count("fresh", null));
+    }
+
+    @Test
+    void testShortSearchTerms() throws SQLException {
+        entityDao.save(new Entity("Apple iPhone", "Smartphone"));
+        entityDao.save(new Entity("MacBook", "Laptop"));
+
+        assertEquals(1, entityDao.findAll("ok", null, null, 0, 10).size());
+        assertEquals(2, entityDao.count("p", null));
+    }
+
+    @Test
+    void testRankedSearch() throws SQLException {
+        entityDao.save(new Entity("Phone case", "Accessory for a phone"));
+        entityDao.save(new Entity("Samsung Phone", "Android phone with phone features"));
+        entityDao.save(new Entity("MacBook", "Laptop"));
+
+        List<Entity> results = entityDao.search("phon", null, 0, 10);
+        assertEquals(2, results.size());
+
+        List<Entity> both = entityDao.search("sams andr", null, 0, 10);
+        assertEquals(1, both.size());
+        assertEquals("Samsung Phone", both.get(0).getName());
+
+        assertTrue(entityDao.search("phone", EntityStatus.INACTIVE, 0, 10).isEmpty());
+    }
+
+    @Test
+    void testSaveRejectsMissingTimestamp() throws SQLException {
+        Entity entity = new Entity("No timestamp", "Desc");
+        entity.setCreatedAt(null);
+
+        assertThrows(SQLException.class, () -> entityDao.save(entity));
+        assertNull(entityDao.findById(entity.getId()));
+    }
+
+    @Test
+    void testRankedSearchWithShortTerms() throws SQLException {
+        entityDao.save(new Entity("Phone case", "Accessory for a phone"));
+        entityDao.save(new Entity("Samsung Phone", "Android phone with phone features"));
+        entityDao.save(new Entity("MacBook", "Laptop"));
+
+        List<Entity> results = entityDao.search("an phone", null, 0, 10);
+        assertEquals(1, results.size());
+        assertEquals("Samsung Phone", results.get(0).getName());
+
+        List<Entity> allShort = entityDao.search("ca ph", null, 0, 10);
+        assertEquals(1, allShort.size());
+        assertEquals("Phone case", allShort.get(0).getName());
+        assertTrue(entityDao.search("zz phone", null, 0, 10).isEmpty());
+    }
+
+    @Test
+    void testFindAllWithStatusFilter() throws SQLException {
+        Entity active1 = new Entity("Active 1", "Desc");
+        active1.setStatus(EntityStatus.ACTIVE);
+
+        Entity active2 = new Entity("Active 2", "Desc");
+        active2.setStatus(EntityStatus.ACTIVE);
+
+        Entity inactive = new Entity("Inactive", "Desc");
+        inactive.setStatus(EntityStatus.INACTIVE);
+
+        entityDao.save(active1);
+        entityDao.save(active2);
+        entityDao.save(inactive);
+
+        List<Entity> activeResults = entityDao.findAll(null, EntityStatus.ACTIVE, null, 0, 10);
+        List<Entity> inactiveResults = entityDao.findAll(null, EntityStatus.INACTIVE, null, 0, 10);
+
+        assertEquals(2, activeResults.size());
+        assertEquals(1, inactiveResults.size());
+    }
+
+    @Test
+    void testFindAllWithSorting() throws SQLException {
+        entityDao.save(new Entity("Charlie", "C"));
+        entityDao.save(new Entity("Alpha", "A"));
+        entityDao.save(new Entity("Bravo", "B"));
+
+        List<Entity> byName = entityDao.findAll(null, null, "name", 0, 10);
+        if (byName.size() >= 3) {
+            assertEquals("Alpha", byName.get(0).getName());
+            assertEquals("Bravo", byName.get(1).getName());
+            assertEquals("Charlie", byName.get(2).getName());
+        }
+    }
+
+    @Test
+    void testFindAllWithPagination() throws SQLException {
+        for (int i = 1; i <= 15; i++) {
+            entityDao.save(new Entity("Entity " + i, "Description " + i));
+        }
+
+        List<Entity> page1 = entityDao.findAll(null, null, null, 0, 5);
+        List<Entity> page2 = entityDao.findAll(null, null, null, 5, 5);
+        List<Entity> page3 = entityDao.findAll(null, null, null, 10, 5);
+
+        assertEquals(5, page1.size());
+        assertEquals(5, page2.size());
+        assertEquals(5, page3.size());
+    }
+
+    @Test
+    void testFindAfterMatchesOffsetPagination() throws SQLException {
+        for (int i = 1; i <= 12; i++) {
+            Entity entity = new Entity("Entity " + (i % 4), "Description " + i);
+            entityDao.save(entity);
+        }
+
+        for (String sortBy : new String[]{null, "name", "createdAt", "updatedAt"}) {
+            List<Entity> expected = entityDao.findAll(null, null, sortBy, 0, 100);
+            List<Entity> seen = new ArrayList<>();
+
+            PageCursor cursor = null;
+            List<Entity> page;
+            while (!(page = entityDao.findAfter(null, null, sortBy, cursor, 5)).isEmpty()) {
+                seen.addAll(page);
+                cursor = PageCursor.of(page.get(page.size() - 1));
+            }
+
+            assertEquals(expected.size(), seen.size(), "sort " + sortBy);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getId(), seen.get(i).getId(), "sort " + sortBy);
+            }
+        }
+    }
+
+    @Test
+    void testFindAfterWithStatusFilter() throws SQLException {
+        for (int i = 1; i <= 6; i++) {
+            Entity entity = new Entity("Entity " + i, "Desc");
+            entity.setStatus(i % 2 == 0 ? EntityStatus.ACTIVE : EntityStatus.INACTIVE);
+            entityDao.save(entity);
+        }
+
+        List<Entity> first = entityDao.findAfter(null, EntityStatus.ACTIVE, "name", null, 2);
+        List<Entity> second = entityDao.findAfter(null, EntityStatus.ACTIVE, "name",
+                PageCursor.of(first.get(1)), 2);
+
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertEquals("Entity 6", second.get(0).getName());
+    }
+
+    @Test
+    void testFindPageReturnsRowsAndTotalCount() throws SQLException {
+        for (int i = 1; i <= 7; i++) {
+            entityDao.save(new Entity("Entity " + i, "Description " + i));
+        }
+
+        Page<Entity> first = entityDao.findPage(null, null, "name", 0, 5);
+        assertEquals(5, first.getItems().size());
+        assertEquals(7, first.getTotalCount());
+
+        Page<Entity> second = entityDao.findPageAfter(null, null, "name",
+                PageCursor.of(first.getItems().get(4)), 5);
+        assertEquals(2, second.getItems().size());
+        assertEquals(7, second.getTotalCount());
+
+        Page<Entity> filtered = entityDao.findPage("Entity 3", EntityStatus.ACTIVE, null, 0, 5);
+        assertEquals(1, filtered.getItems().size());
+        assertEquals(1, filtered.getTotalCount());
+    }
+
+    @Test
+    void testCount() throws SQLException {
+        int initialCount = entityDao.count(null, null);
+
+        entityDao.save(new Entity("Test 1", "Desc"));
+        entityDao.save(new Entity("Test 2", "Desc"));
+
+        int newCount = entityDao.count(null, null);
+        assertEquals(initialCount + 2, newCount);
+    }
+
+    @Test
+    void testCountWithSearch() throws SQLException {
+        entityDao.save(new Entity("Apple iPhone", "Smartphone"));
+        entityDao.save(new Entity("Samsung Phone", "Android"));
+        entityDao.save(new Entity("MacBook", "Laptop"));
+
+        int phoneCount = entityDao.count("phone", null);
+        assertEquals(2, phoneCount);
+
+        int appleCount = entityDao.count("Apple", null);
+        assertEquals(1, appleCount);
+    }
+
+    @Test
+    void testCountWithStatus() throws SQLException {
+        Entity active = new Entity("Active", "Desc");
+        active.setStatus(EntityStatus.ACTIVE);
+
+        Entity inactive = new Entity("Inactive", "Desc");
+        inactive.setStatus(EntityStatus.INACTIVE);
+
+        entityDao.save(active);
+        entityDao.save(inactive);
+
+        int activeCount = entityDao.count(null, EntityStatus.ACTIVE);
+        int inactiveCount = entityDao.count(null, EntityStatus.INACTIVE);
+
+        assertEquals(1, activeCount);
+        assertEquals(1, inactiveCount);
+    }
+
+    @Test
+    void testMultipleOperations() throws SQLException {
+        Entity entity = new Entity("Test", "Description");
+
+        entityDao.save(entity);
+
+        Entity found = entityDao.findById(entity.getId());
+        assertNotNull(found);
+
+        entity.setName("Updated");
+        entity.setDescription("Updated Desc");
+        entityDao.update(entity);
+
+        Entity updated = entityDao.findById(entity.getId());
+        assertEquals("Updated", updated.getName());
+
+        entityDao.delete(entity.getId());
+
+        Entity deleted = entityDao.findById(entity.getId());
+        assertNull(deleted);
+    }
+
+    @Test
+    void testStreamReadsAllRowsInOrder() throws SQLException {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            entities.add(new Entity(String.format("Stream %02d", i), null));
+        }
+        entityDao.saveAll(entities);
+
+        List<String> names;
+        try (Stream<Entity> stream = entityDao.stream(null, null, "name")) {
+            names = stream.map(Entity::getName).collect(Collectors.toList());
+        }
+
+        assertEquals(25, names.size());
+        assertEquals("Stream 00", names.get(0));
+        assertEquals("Stream 24", names.get(24));
+    }
+
+    @Test
+    void testStreamReleasesConnection() throws SQLException {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entities.add(new Entity("Release " + i, null));
+        }
+        entityDao.saveAll(entities);
+        ConnectionPool pool = (ConnectionPool) DatabaseConnection.getReadDataSource();
+        int activeBefore = pool.getActiveCount();
+
+        try (Stream<Entity> stream = entityDao.stream("Release", null, null)) {
+            assertEquals(3, stream.limit(3).count());
+            assertEquals(activeBefore + 1, pool.getActiveCount());
+        }
+        assertEquals(activeBefore, pool.getActiveCount());
+
+        // Fully consumed streams give the connection back even without close().
+        assertEquals(10, entityDao.stream("Release", null, null).count());
+        assertEquals(activeBefore, pool.getActiveCount());
+
+        List<String> seen = new ArrayList<>();
+        entityDao.forEach(null, EntityStatus.ACTIVE, "name", entity -> seen.add(entity.getName()));
+        assertEquals(10, seen.size());
+        assertEquals(activeBefore, pool.getActiveCount());
+    }
+
+    @Test
+    void testCountsFollowInsertsUpdatesAndDeletes() throws SQLException {
+        Entity first = new Entity("Counted One", null);
+        Entity second = new Entity("Counted Two", null);
+        entityDao.saveAll(List.of(first, second));
+        assertEquals(2, entityDao.count(null, null));
+        assertEquals(2, entityDao.count(null, EntityStatus.ACTIVE));
+
+        second.setStatus(EntityStatus.ARCHIVED);
+        entityDao.update(second);
+        assertEquals(1, entityDao.count(null, EntityStatus.ACTIVE));
+        assertEquals(1, entityDao.count(null, EntityStatus.ARCHIVED));
+
+        entityDao.delete(first.getId());
+        assertEquals(1, entityDao.count(null, null));
+        assertEquals(0, entityDao.count(null, EntityStatus.ACTIVE));
+        assertEquals(0, entityDao.count(null, EntityStatus.INACTIVE));
+    }
+
+    @Test
+    void testUpdateWritesChangedFieldsAndIncrementsVersion() throws SQLException {
+        Entity entity = new Entity("Versioned", "Desc");
+        entityDao.save(entity);
+        assertEquals(0, entityDao.findById(entity.getId()).getVersion());
+
+        Entity loaded = entityDao.findById(entity.getId());
+        loaded.setStatus(EntityStatus.ARCHIVED);
+        entityDao.update(loaded);
+
+        assertEquals(1, loaded.getVersion());
+        assertFalse(loaded.hasChanges());
+        Entity stored = entityDao.findById(entity.getId());
+        assertEquals(1, stored.getVersion());
+        assertEquals("Versioned", stored.getName());
+        assertEquals(EntityStatus.ARCHIVED, stored.getStatus());
+    }
+
+    @Test
+    void testUpdateWithoutChangesIsSkipped() throws SQLException {
+        Entity entity = new Entity("Unchanged", "Desc");
+        entityDao.save(entity);
+        Entity loaded = entityDao.findById(entity.getId());
+
+        loaded.setName("Unchanged");
+        entityDao.update(loaded);
+
+        Entity stored = entityDao.findById(entity.getId());
+        assertEquals(0, stored.getVersion());
+        assertEquals(entity.getUpdatedAtMillis(), stored.getUpdatedAtMillis());
+    }
+
+    @Test
+    void testStaleUpdateIsRejected() throws SQLException {
+        Entity entity = new Entity("Contended", "Desc");
+        entityDao.save(entity);
+        Entity mine = entityDao.findById(entity.getId());
+        Entity theirs = entityDao.findById(entity.getId());
+
+        theirs.setDescription("Theirs");
+        entityDao.update(theirs);
+
+        mine.setName("Mine");
+        long updatedAt = mine.getUpdatedAtMillis();
+        OptimisticLockException conflict = assertThrows(OptimisticLockException.class, () -> entityDao.update(mine));
+        assertFalse(conflict.isDeleted());
+        assertEquals(0, conflict.getExpectedVersion());
+        assertEquals(updatedAt, mine.getUpdatedAtMillis());
+        assertEquals(0, mine.getVersion());
+        assertTrue(mine.isChanged(Entity.Field.NAME));
+        Entity stored = entityDao.findById(entity.getId());
+        assertEquals("Contended", stored.getName());
+        assertEquals("Theirs", stored.getDescription());
+
+        entityDao.delete(entity.getId());
+        theirs.setStatus(EntityStatus.INACTIVE);
+        assertTrue(assertThrows(OptimisticLockException.class, () -> entityDao.update(theirs)).isDeleted());
+    }
+
+    @Test
+    void testOverwriteIgnoresVersionAndSkipsUnchangedRow() throws SQLException {
+        Entity entity = new Entity("Overwritten", "Desc");
+        entityDao.save(entity);
+        Entity theirs = entityDao.findById(entity.getId());
+        theirs.setDescription("Theirs");
+        entityDao.update(theirs);
+
+        assertTrue(entityDao.overwrite(entity.getId(), "Overwritten", "Mine", EntityStatus.INACTIVE));
+        Entity stored = entityDao.findById(entity.getId());
+        assertEquals("Mine", stored.getDescription());
+        assertEquals(EntityStatus.INACTIVE, stored.getStatus());
+        assertEquals(2, stored.getVersion());
+
+        assertTrue(entityDao.overwrite(entity.getId(), "Overwritten", "Mine", EntityStatus.INACTIVE));
+        assertEquals(2, entityDao.findById(entity.getId()).getVersion());
+
+        entityDao.delete(entity.getId());
+        assertFalse(entityDao.overwrite(entity.getId(), "Overwritten", "Gone", EntityStatus.ACTIVE));
+        SQLException[] failures = entityDao.applyAll(List.of(EntityWrite.overwrite(stored)));
+        assertTrue(((OptimisticLockException) failures[0]).isDeleted());
+    }
+
+    @Test
+    void testApplyAllReportsStaleUpdatesAlone() throws SQLException {
+        Entity entity = new Entity("Grouped", "Desc");
+        entityDao.save(entity);
+        Entity first = entityDao.findById(entity.getId());
+        Entity stale = entityDao.findById(entity.getId());
+        first.setName("Grouped First");
+        stale.setName("Grouped Stale");
+        Entity inserted = new Entity("Grouped Insert", null);
+
+        SQLException[] failures = entityDao.applyAll(List.of(
+                EntityWrite.update(first), EntityWrite.update(stale), EntityWrite.insert(inserted)));
+
+        assertNull(failures[0]);
+        assertInstanceOf(OptimisticLockException.class, failures[1]);
+        assertNull(failures[2]);
+        assertEquals("Grouped First", entityDao.findById(entity.getId()).getName());
+        assertNotNull(entityDao.findById(inserted.getId()));
+    }
+
+    @Test
+    void testUpdateStatusMatchingWalksTableInChunks() throws SQLException {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Entity entity = new Entity(String.format("Bulk %s %02d", i % 2 == 0 ? "Even" : "Odd", i), null);
+            if (i % 5 == 0) {
+                entity.setStatus(EntityStatus.INACTIVE);
+            }
+            entities.add(entity);
+        }
+        entityDao.saveAll(entities);
+        List<long[]> progress = new ArrayList<>();
+
+        long changed = entityDao.updateStatusMatching("Even", EntityStatus.ACTIVE, EntityStatus.ARCHIVED, 4,
+                (done, scanned, total) -> progress.add(new long[]{done, scanned, total}));
+
+        // 13 even rows, of which 0, 10 and 20 are inactive.
+        assertEquals(10, changed);
+        assertEquals(10, entityDao.count(null, EntityStatus.ARCHIVED));
+        assertEquals(5, entityDao.count(null, EntityStatus.INACTIVE));
+        assertTrue(progress.size() > 1);
+        long[] last = progress.get(progress.size() - 1);
+        assertEquals(10, last[0]);
+        assertEquals(last[2], last[1]);
+
+        Entity archived = entityDao.findById(entities.get(2).getId());
+        assertEquals(EntityStatus.ARCHIVED, archived.getStatus());
+        assertEquals(1, archived.getVersion());
+
+        // Rows already archived are not written again.
+        assertEquals(15, entityDao.updateStatusMatching(null, null, EntityStatus.ARCHIVED, 4, BulkProgressListener.NONE));
+        assertEquals(0, entityDao.updateStatusMatching("B", null, EntityStatus.ARCHIVED, 4, BulkProgressListener.NONE));
+        assertEquals(1, entityDao.findById(entities.get(2).getId()).getVersion());
+    }
+
+    @Test
+    void testBulkWriteStopsWhenListenerSaysSo() throws SQLException {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entities.add(new Entity("Stoppable " + i, null));
+        }
+        entityDao.saveAll(entities);
+
+        // Stop after the first committed chunk; it stays committed.
+        assertEquals(3, entityDao.deleteMatching("Stoppable", null, 3, (changed, done, total) -> false));
+        assertEquals(7, entityDao.count("Stoppable", null));
+
+        List<UUID> ids = new ArrayList<>();
+        entities.subList(3, 10).forEach(entity -> ids.add(entity.getId()));
+        assertEquals(4, entityDao.updateStatus(ids, EntityStatus.ARCHIVED, 4, (changed, done, total) -> false));
+        assertEquals(4, entityDao.count("Stoppable", EntityStatus.ARCHIVED));
+    }
+
+    @Test
+    void testDeleteMatchingAndByIds() throws SQLException {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            entities.add(new Entity((i < 6 ? "Keep " : "Drop ") + i, null));
+        }
+        entityDao.saveAll(entities);
+
+        assertEquals(6, entityDao.deleteMatching("Drop", null, 5, BulkProgressListener.NONE));
+        assertEquals(6, entityDao.count(null, null));
+
+        List<UUID> ids = List.of(entities.get(0).getId(), entities.get(1).getId(), entities.get(2).getId(),
+                entities.get(11).getId());
+        List<long[]> progress = new ArrayList<>();
+        assertEquals(3, entityDao.updateStatus(ids, EntityStatus.INACTIVE, 2,
+                (changed, done, total) -> progress.add(new long[]{changed, done, total})));
+        assertEquals(2, progress.size());
+        assertArrayEquals(new long[]{3, 4, 4}, progress.get(1));
+        assertEquals(3, entityDao.count(null, EntityStatus.INACTIVE));
+
+        assertEquals(3, entityDao.deleteAll(ids, 3, BulkProgressListener.NONE));
+        assertNull(entityDao.findById(entities.get(0).getId()));
+        assertEquals(3, entityDao.count("Keep", EntityStatus.ACTIVE));
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.dao.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MigrationRunnerTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testMigrationsAreAppliedOnce() throws SQLException {
+        AtomicInteger applied = new AtomicInteger();
+        List<Migration> migrations = List.of(
+                new SqlMigration(1, "create", "CREATE TABLE items (id INTEGER PRIMARY KEY, value INTEGER)"),
+                new CountingMigration(2, applied));
+        MigrationRunner runner = new MigrationRunner(migrations);
+
+        assertEquals(2, runner.migrate(connection));
+        assertEquals(2, runner.migrate(connection));
+
+        assertEquals(1, applied.get());
+        assertEquals(2, MigrationRunner.currentVersion(connection));
+    }
+
+    @Test
+    void testFailedMigrationIsRolledBack() throws SQLException {
+        MigrationRunner runner = new MigrationRunner(List.of(
+                new SqlMigration(1, "create", "CREATE TABLE items (id INTEGER PRIMARY KEY)"),
+                new SqlMigration(2, "broken", "CREATE TABLE other (id INTEGER)", "NOT VALID SQL")));
+
+        assertThrows(SQLException.class, () -> runner.migrate(connection));
+
+        assertEquals(1, MigrationRunner.currentVersion(connection));
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT count(*) FROM sqlite_master WHERE name = 'other'")) {
+            rs.next();
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+
+    @Test
+    void testDuplicateVersionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MigrationRunner(List.of(
+                new SqlMigration(1, "a"),
+                new SqlMigration(1, "b"))));
+    }
+
+    @Test
+    void testBackfillRunsInChunksAndCompletes() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE items (id INTEGER PRIMARY KEY, value INTEGER, doubled INTEGER)");
+            stmt.execute("WITH RECURSIVE n(i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < 250) "
+                    + "INSERT INTO items (id, value) SELECT i, i FROM n");
+        }
+
+        AtomicInteger chunks = new AtomicInteger();
+        ChunkedBackfill backfill = new ChunkedBackfill("double_values", "items", 100) {
+            @Override
+            protected void processChunk(Connection c, long fromRowid, long toRowid) throws SQLException {
+                chunks.incrementAndGet();
+                try (PreparedStatement pstmt = c.prepareStatement(
+                        "UPDATE items SET doubled = value * 2 WHERE rowid > ? AND rowid <= ?")) {
+                    pstmt.setLong(1, fromRowid);
+                    pstmt.setLong(2, toRowid);
+                    pstmt.executeUpdate();
+                }
+            }
+        };
+
+        new MigrationRunner(List.of(new BackfillMigration(1, backfill))).migrate(connection);
+
+        assertEquals(3, chunks.get());
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT count(*) FROM items WHERE doubled = value * 2")) {
+            rs.next();
+            assertEquals(250, rs.getInt(1));
+        }
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT completed, last_rowid FROM schema_backfills")) {
+            rs.next();
+            assertEquals(1, rs.getInt(1));
+            assertEquals(250, rs.getLong(2));
+        }
+    }
+
+    private static final class CountingMigration implements Migration {
+        private final int version;
+        private final AtomicInteger counter;
+
+        CountingMigration(int version, AtomicInteger counter) {
+            this.version = version;
+            this.counter = counter;
+        }
+
+        @Override
+        public int version() { return version; }
+
+        @Override
+        public String description() { return "counting"; }
+
+        @Override
+        public void apply(Connection connection) {
+            counter.incrementAndGet();
+        }
+    }
+
+    private static final class BackfillMigration implements Migration {
+        private final int version;
+        private final ChunkedBackfill backfill;
+
+        BackfillMigration(int version, ChunkedBackfill backfill) {
+            this.version = version;
+            this.backfill = backfill;
+        }
+
+        @Override
+        public int version() { return version; }
+
+        @Override
+        public String description() { return "backfill"; }
+
+        @Override
+        public void apply(Connection connection) {
+        }
+
+        @Override
+        public ChunkedBackfill backfill() { return backfill; }
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.dao.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigrationsTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testCompactStorageMigrationConvertsRows() throws SQLException {
+        new MigrationRunner(SchemaMigrations.all().subList(0, 4)).migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO entities (id, name, description, status, created_at, updated_at) VALUES "
+                    + "('00112233-4455-6677-8899-aabbccddeeff', 'Legacy row', 'text id', 'ARCHIVED', 1, 2)");
+        }
+
+        new MigrationRunner(SchemaMigrations.all()).migrate(connection);
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT hex(id), typeof(id), status FROM entities WHERE name = 'Legacy row'")) {
+            assertTrue(rs.next());
+            assertEquals("00112233445566778899AABBCCDDEEFF", rs.getString(1));
+            assertEquals("blob", rs.getString(2));
+            assertEquals(3, rs.getInt(3));
+        }
+
+        // The full-text index still points at the same rows and the triggers were recreated.
+        try (Statement stmt = connection.createStatement()) {
+            assertEquals(1, countMatches(stmt, "egacy"));
+            stmt.execute("UPDATE entities SET name = 'Renamed row' WHERE name = 'Legacy row'");
+            assertEquals(0, countMatches(stmt, "egacy"));
+            assertEquals(1, countMatches(stmt, "Renamed"));
+        }
+    }
+
+    @Test
+    void testCompactStorageKeepsWritesMadeBeforeTheSwap() throws SQLException {
+        new MigrationRunner(SchemaMigrations.all().subList(0, 4)).migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO entities (id, name, description, status, created_at, updated_at) VALUES "
+                    + "('00000000-0000-0000-0000-000000000001', 'Copied row', NULL, 'ACTIVE', 1, 1), "
+                    + "('00000000-0000-0000-0000-000000000002', 'Deleted row', NULL, 'ACTIVE', 1, 1)");
+        }
+        new MigrationRunner(SchemaMigrations.all().subList(0, 5)).migrate(connection);
+
+        // Written to the old table after the copy, as another connection could.
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("UPDATE entities SET status = 'INACTIVE' WHERE name = 'Copied row'");
+            stmt.execute("DELETE FROM entities WHERE name = 'Deleted row'");
+            stmt.execute("INSERT INTO entities (id, name, description, status, created_at, updated_at) VALUES "
+                    + "('00000000-0000-0000-0000-000000000003', 'Late row', NULL, 'ARCHIVED', 2, 2)");
+        }
+
+        new MigrationRunner(SchemaMigrations.all()).migrate(connection);
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT name, status FROM entities WHERE created_at < 10 ORDER BY name")) {
+            assertTrue(rs.next());
+            assertEquals("Copied row", rs.getString(1));
+            assertEquals(2, rs.getInt(2));
+            assertTrue(rs.next());
+            assertEquals("Late row", rs.getString(1));
+            assertEquals(3, rs.getInt(2));
+            assertFalse(rs.next());
+        }
+        try (Statement stmt = connection.createStatement()) {
+            assertEquals(1, countMatches(stmt, "Late"));
+            assertEquals(0, countMatches(stmt, "Deleted"));
+        }
+    }
+
+    @Test
+    void testCompactStorageRejectsUnknownStatus() throws SQLException {
+        new MigrationRunner(SchemaMigrations.all()).migrate(connection);
+
+        try (Statement stmt = connection.createStatement()) {
+            assertThrows(SQLException.class, () -> stmt.execute(
+                    "INSERT INTO entities (id, name, status, created_at, updated_at) VALUES (randomblob(16), 'Bad status', 9, 1, 1)"));
+            assertThrows(SQLException.class, () -> stmt.execute(
+                    "INSERT INTO entities (id, name, status, created_at, updated_at) VALUES ('not-a-blob', 'Bad id', 1, 1, 1)"));
+        }
+    }
+
+    private static int countMatches(Statement stmt, String term) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("SELECT count(*) FROM entities WHERE rowid IN "
+                + "(SELECT rowid FROM entities_fts WHERE entities_fts MATCH '\"" + term + "\"')")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    void testStatusCountersAreSeededFromExistingRows() throws SQLException {
+        new MigrationRunner(SchemaMigrations.all().subList(0, 6)).migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DELETE FROM entities");
+            stmt.execute("INSERT INTO entities (id, name, status, created_at, updated_at) VALUES "
+                    + "(randomblob(16), 'Active one', 1, 1, 1), (randomblob(16), 'Active two', 1, 1, 1), "
+                    + "(randomblob(16), 'Archived', 3, 1, 1)");
+        }
+
+        new MigrationRunner(SchemaMigrations.all()).migrate(connection);
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT status, row_count FROM entity_stats ORDER BY status")) {
+            int[] expected = {2, 0, 1};
+            for (int code = 1; code <= 3; code++) {
+                assertTrue(rs.next());
+                assertEquals(code, rs.getInt(1));
+                assertEquals(expected[code - 1], rs.getInt(2));
+            }
+            assertFalse(rs.next());
+        }
+    }
+}
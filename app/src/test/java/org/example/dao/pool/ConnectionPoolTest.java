@@ -0,0 +1,127 @@
+package org.example.dao.pool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+
+    private static final String URL = "jdbc:sqlite:file:pooltest?mode=memory&cache=shared";
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        PoolConfig config = new PoolConfig();
+        config.setMaxSize(2);
+        config.setMinIdle(0);
+        config.setConnectionTimeoutMillis(200);
+        config.setIdleTimeoutMillis(0);
+        config.setHousekeepingIntervalMillis(60_000);
+        pool = new ConnectionPool(URL, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void testConnectionIsReturnedToPool() throws SQLException {
+        Connection first = pool.getConnection();
+        Connection physical = first.unwrap(Connection.class);
+        first.close();
+
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+
+        try (Connection second = pool.getConnection()) {
+            assertSame(physical, second.unwrap(Connection.class));
+        }
+    }
+
+    @Test
+    void testPoolIsBounded() throws SQLException {
+        Connection c1 = pool.getConnection();
+        Connection c2 = pool.getConnection();
+
+        assertThrows(SQLTimeoutException.class, () -> pool.getConnection());
+        assertEquals(2, pool.getTotalCount());
+
+        c1.close();
+        try (Connection c3 = pool.getConnection()) {
+            assertNotNull(c3);
+        }
+        c2.close();
+    }
+
+    @Test
+    void testClosedProxyRejectsCalls() throws SQLException {
+        Connection connection = pool.getConnection();
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        assertThrows(SQLException.class, connection::createStatement);
+    }
+
+    @Test
+    void testOpenStatementsAndTransactionsAreResetOnReturn() throws SQLException {
+        Connection connection = pool.getConnection();
+        connection.setAutoCommit(false);
+        Statement leaked = connection.createStatement();
+        connection.close();
+
+        assertTrue(leaked.isClosed());
+        try (Connection reused = pool.getConnection()) {
+            assertTrue(reused.getAutoCommit());
+        }
+    }
+
+    @Test
+    void testPreparedStatementsAreCachedPerConnection() throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            PreparedStatement first = connection.prepareStatement("SELECT ?");
+            first.setInt(1, 42);
+            try (ResultSet rs = first.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(42, rs.getInt(1));
+            }
+            PreparedStatement physical = first.unwrap(PreparedStatement.class);
+            first.close();
+            assertTrue(first.isClosed());
+
+            try (PreparedStatement second = connection.prepareStatement("SELECT ?")) {
+                assertSame(physical, second.unwrap(PreparedStatement.class));
+                assertSame(connection, second.getConnection());
+
+                try (PreparedStatement concurrent = connection.prepareStatement("SELECT ?")) {
+                    assertNotSame(physical, concurrent.unwrap(PreparedStatement.class));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testIdleConnectionsAreEvicted() throws SQLException {
+        pool.getConnection().close();
+        assertEquals(1, pool.getIdleCount());
+
+        pool.housekeep();
+
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(0, pool.getTotalCount());
+    }
+
+    @Test
+    void testClosedPoolRejectsBorrow() {
+        pool.close();
+        assertThrows(SQLException.class, () -> pool.getConnection());
+    }
+}
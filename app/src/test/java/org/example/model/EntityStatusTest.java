@@ -27,4 +27,13 @@ class EntityStatusTest {
         assertEquals("INACTIVE", EntityStatus.INACTIVE.name());
         assertEquals("ARCHIVED", EntityStatus.ARCHIVED.name());
     }
+
+    @Test
+    void testCodes() {
+        for (EntityStatus status : EntityStatus.values()) {
+            assertEquals(status, EntityStatus.fromCode(status.code()));
+        }
+        assertEquals(1, EntityStatus.ACTIVE.code());
+        assertThrows(IllegalArgumentException.class, () -> EntityStatus.fromCode(0));
+    }
 }
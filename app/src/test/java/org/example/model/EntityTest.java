@@ -0,0 +1,99 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTest {
+
+    @Test
+    void testDefaultConstructor() {
+        Entity entity = new Entity();
+        assertNotNull(entity.getId());
+        assertNotNull(entity.getCreatedAt());
+        assertNotNull(entity.getUpdatedAt());
+        assertEquals(EntityStatus.ACTIVE, entity.getStatus());
+    }
+
+    @Test
+    void testParameterizedConstructor() {
+        Entity entity = new Entity("Test", "Description");
+        assertEquals("Test", entity.getName());
+        assertEquals("Description", entity.getDescription());
+        assertEquals(EntityStatus.ACTIVE, entity.getStatus());
+    }
+
+    @Test
+    void testSetters() {
+        Entity entity = new Entity();
+        UUID id = UUID.randomUUID();
+        LocalDateTime time = LocalDateTime.now();
+
+        entity.setId(id);
+        entity.setName("Name");
+        entity.setDescription("Desc");
+        entity.setStatus(EntityStatus.INACTIVE);
+        entity.setCreatedAt(time.minusDays(1));
+        entity.setUpdatedAt(time);
+
+        assertEquals(id, entity.getId());
+        assertEquals("Name", entity.getName());
+        assertEquals("Desc", entity.getDescription());
+        assertEquals(EntityStatus.INACTIVE, entity.getStatus());
+    }
+
+    @Test
+    void testStoredRowConstructorConvertsTimestampsLazily() {
+        UUID id = UUID.randomUUID();
+        Entity entity = new Entity(id, "Stored", null, EntityStatus.ARCHIVED, 1_000L, 2_000L);
+
+        assertEquals(id, entity.getId());
+        assertEquals(EntityStatus.ARCHIVED, entity.getStatus());
+        assertEquals(1_000L, entity.getCreatedAtMillis());
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(2_000L), ZoneId.systemDefault()), entity.getUpdatedAt());
+
+        LocalDateTime time = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        entity.setCreatedAt(time);
+        assertEquals(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), entity.getCreatedAtMillis());
+
+        entity.setUpdatedAtMillis(3_000L);
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(3_000L), ZoneId.systemDefault()), entity.getUpdatedAt());
+    }
+
+    @Test
+    void testChangedFieldsTrackActualChanges() {
+        Entity entity = new Entity(UUID.randomUUID(), "Stored", "Desc", EntityStatus.ACTIVE, 1_000L, 2_000L, 3);
+        assertFalse(entity.hasChanges());
+
+        entity.setName("Stored");
+        entity.setStatus(EntityStatus.ACTIVE);
+        assertFalse(entity.hasChanges());
+
+        entity.setDescription("Other");
+        assertTrue(entity.isChanged(Entity.Field.DESCRIPTION));
+        assertFalse(entity.isChanged(Entity.Field.NAME));
+
+        Entity copy = new Entity(entity);
+        assertTrue(copy.isChanged(Entity.Field.DESCRIPTION));
+        assertEquals(3, copy.getVersion());
+
+        entity.markClean();
+        assertFalse(entity.hasChanges());
+        assertTrue(copy.hasChanges());
+    }
+
+    @Test
+    void testNullTimestampsStayNull() {
+        Entity entity = new Entity("Name", "Desc");
+        entity.setCreatedAt(null);
+        entity.setUpdatedAt(null);
+
+        assertNull(entity.getCreatedAt());
+        assertNull(entity.getUpdatedAt());
+        assertEquals(Entity.NO_TIMESTAMP, entity.getCreatedAtMillis());
+        assertNull(new Entity(entity).getCreatedAt());
+    }
+}
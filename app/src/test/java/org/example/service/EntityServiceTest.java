@@ -0,0 +1,358 @@
+package org.example.service;
+
+import org.example.dao.BulkProgressListener;
+import org.example.dao.EntityDao;
+import org.example.dao.OptimisticLockException;
+import org.example.model.BatchResult;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.example.service.cache.EntityCache;
+import org.example.service.cache.PageCache;
+import org.example.util.Validator;
+import org.example.service.writebehind.WriteBehindConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityServiceTest {
+
+    private EntityService entityService;
+
+    @BeforeEach
+    void setUp() {
+        entityService = new EntityService();
+    }
+
+    @Test
+    void testCreateEntity_ValidData() {
+        assertDoesNotThrow(() -> {
+            entityService.createEntity("Valid Name", "Valid Description");
+        });
+    }
+
+    @Test
+    void testCreateEntity_InvalidName_TooShort() {
+        Exception exception = assertThrows(Exception.class, () -> {
+            entityService.createEntity("AB", "Valid Description");
+        });
+        assertTrue(exception.getMessage().contains("between 3 and 50"));
+    }
+
+    @Test
+    void testCreateEntity_InvalidName_TooLong() {
+        String longName = "A".repeat(51);
+        Exception exception = assertThrows(Exception.class, () -> {
+            entityService.createEntity(longName, "Valid Description");
+        });
+        assertTrue(exception.getMessage().contains("between 3 and 50"));
+    }
+
+    @Test
+    void testCreateEntity_InvalidDescription_TooLong() {
+        String longDesc = "A".repeat(256);
+        Exception exception = assertThrows(Exception.class, () -> {
+            entityService.createEntity("Valid Name", longDesc);
+        });
+        assertTrue(exception.getMessage().contains("cannot exceed 255"));
+    }
+
+    @Test
+    void testCreateEntities_SkipsInvalidRows() throws Exception {
+        List<Entity> entities = List.of(
+                new Entity("Bulk One", "Valid"),
+                new Entity("AB", "Name too short"),
+                new Entity("Bulk Two", "Valid"));
+
+        BatchResult result = entityService.createEntities(entities);
+
+        assertEquals(2, result.getSavedCount());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertTrue(result.getFailures().get(0).getMessage().contains("between 3 and 50"));
+    }
+
+    @Test
+    void testGetAllEntities() throws Exception {
+        entityService.createEntity("Test 1", "Description 1");
+        entityService.createEntity("Test 2", "Description 2");
+
+        List<Entity> entities = entityService.getAllEntities(null, null, null, 1, 10);
+
+        assertNotNull(entities);
+        assertFalse(entities.isEmpty());
+        assertEquals(2, entities.size());
+    }
+
+    @Test
+    void testSearchEntities() throws Exception {
+        entityService.createEntity("Apple iPhone", "Smartphone");
+        entityService.createEntity("Samsung Phone", "Android phone");
+        entityService.createEntity("MacBook", "Laptop");
+
+        List<Entity> phoneResults = entityService.getAllEntities("phone", null, null, 1, 10);
+        assertEquals(2, phoneResults.size());
+
+        List<Entity> appleResults = entityService.getAllEntities("Apple", null, null, 1, 10);
+        assertEquals(1, appleResults.size());
+    }
+
+    @Test
+    void testGetTotalCount() throws Exception {
+        entityService.createEntity("Entity 1", "Desc");
+        entityService.createEntity("Entity 2", "Desc");
+
+        int count = entityService.getTotalCount(null, null);
+        assertTrue(count >= 2);
+    }
+
+    @Test
+    void testUpdateEntity() throws Exception {
+        entityService.createEntity("Original", "Original Desc");
+
+        List<Entity> entities = entityService.getAllEntities(null, null, null, 1, 10);
+        assertFalse(entities.isEmpty());
+
+        Entity entity = entities.get(0);
+        entityService.updateEntity(entity.getId(), "Updated", "Updated Desc", EntityStatus.INACTIVE);
+
+        Entity updated = entityService.getEntity(entity.getId());
+        assertEquals("Updated", updated.getName());
+        assertEquals("Updated Desc", updated.getDescription());
+        assertEquals(EntityStatus.INACTIVE, updated.getStatus());
+    }
+
+    @Test
+    void testDeleteEntity() throws Exception {
+        entityService.createEntity("To Delete", "Description");
+
+        List<Entity> entities = entityService.getAllEntities(null, null, null, 1, 10);
+        Entity entity = entities.get(0);
+
+        entityService.deleteEntity(entity.getId());
+
+        Exception exception = assertThrows(Exception.class, () -> {
+            entityService.getEntity(entity.getId());
+        });
+        assertNotNull(exception);
+    }
+
+    @Test
+    void testPagination() throws Exception {
+        for (int i = 1; i <= 15; i++) {
+            entityService.createEntity("Entity " + i, "Description " + i);
+        }
+
+        List<Entity> page1 = entityService.getAllEntities(null, null, null, 1, 5);
+        List<Entity> page2 = entityService.getAllEntities(null, null, null, 2, 5);
+        List<Entity> page3 = entityService.getAllEntities(null, null, null, 3, 5);
+
+        assertEquals(5, page1.size());
+        assertEquals(5, page2.size());
+        assertEquals(5, page3.size());
+
+        assertNotEquals(page1.get(0).getId(), page2.get(0).getId());
+    }
+
+    @Test
+    void testStatusFilter() throws Exception {
+        entityService.createEntity("Active Entity", "Active");
+        entityService.createEntity("Inactive Entity", "Inactive");
+
+        // Обновляем вторую сущность на INACTIVE
+        List<Entity> all = entityService.getAllEntities(null, null, null, 1, 10);
+        Entity second = all.get(1);
+        entityService.updateEntity(second.getId(), "Inactive Entity", "Inactive", EntityStatus.INACTIVE);
+
+        List<Entity> active = entityService.getAllEntities(null, EntityStatus.ACTIVE, null, 1, 10);
+        List<Entity> inactive = entityService.getAllEntities(null, EntityStatus.INACTIVE, null, 1, 10);
+
+        assertTrue(active.size() >= 1);
+        assertTrue(inactive.size() >= 1);
+    }
+
+    @Test
+    void testGetEntity_ServedFromCacheAfterUpdate() throws Exception {
+        entityService.createEntity("Cached Entity", "Before");
+        Entity created = entityService.getAllEntities("Cached Entity", null, null, 1, 10).get(0);
+
+        Entity edited = new Entity(created);
+        edited.setDescription("After");
+        edited.setStatus(EntityStatus.INACTIVE);
+        entityService.updateEntity(edited);
+        long hitsBefore = entityService.getCacheStats().getHitCount();
+        Entity fetched = entityService.getEntity(created.getId());
+
+        assertEquals("After", fetched.getDescription());
+        assertEquals(EntityStatus.INACTIVE, fetched.getStatus());
+        assertEquals(hitsBefore + 1, entityService.getCacheStats().getHitCount());
+
+        entityService.deleteEntity(created.getId());
+        assertNull(entityService.getEntity(created.getId()));
+    }
+
+    @Test
+    void testWriteBehind_ReadsSeeQueuedWrites() throws Exception {
+        WriteBehindConfig config = new WriteBehindConfig();
+        config.setMaxDelayMillis(50);
+        try (EntityService queued = new EntityService(config)) {
+            queued.createEntity("Queued Entity", "Before");
+            Entity created = queued.getAllEntities("Queued Entity", null, null, 1, 10).get(0);
+
+            queued.updateEntity(created.getId(), "Queued Entity", "After", EntityStatus.INACTIVE);
+            assertEquals("After", queued.getEntity(created.getId()).getDescription());
+            assertEquals(EntityStatus.INACTIVE,
+                    queued.getPage("Queued Entity", null, null, 1, 10).getItems().get(0).getStatus());
+
+            queued.submitDelete(created.getId()).get(5, TimeUnit.SECONDS);
+            assertNull(queued.getEntity(created.getId()));
+            assertEquals(0, queued.getTotalCount("Queued Entity", null));
+        }
+    }
+
+    @Test
+    void testUpdateEntity_EditedCopyChecksVersion() throws Exception {
+        entityService.createEntity("Edited Entity", "Before");
+        Entity row = entityService.getAllEntities("Edited Entity", null, null, 1, 10).get(0);
+
+        Entity unchanged = new Entity(row);
+        unchanged.setDescription("Before");
+        long dataVersion = entityService.getDataVersion();
+        entityService.updateEntity(unchanged);
+        assertEquals(dataVersion, entityService.getDataVersion());
+
+        Entity edited = new Entity(row);
+        edited.setDescription("After");
+        entityService.updateEntity(edited);
+        assertEquals("After", entityService.getEntity(row.getId()).getDescription());
+        assertEquals(0, edited.getVersion());
+
+        Entity stale = new Entity(row);
+        stale.setStatus(EntityStatus.ARCHIVED);
+        assertThrows(OptimisticLockException.class, () -> entityService.updateEntity(stale));
+        assertEquals(EntityStatus.ACTIVE, entityService.getEntity(row.getId()).getStatus());
+
+        entityService.deleteEntity(row.getId());
+    }
+
+    @Test
+    void testGetEntity_ReadOvertakenByWriteIsNotCached() throws Exception {
+        entityService.createEntity("Raced Entity", "Old");
+        UUID id = entityService.getAllEntities("Raced Entity", null, null, 1, 10).get(0).getId();
+
+        // The read returns the old row, and an update lands before the reader fills the cache.
+        EntityService[] racing = new EntityService[1];
+        EntityDao slowReads = new EntityDao() {
+            @Override
+            public Entity findById(UUID entityId) throws SQLException {
+                Entity old = super.findById(entityId);
+                try {
+                    racing[0].updateEntity(entityId, "Raced Entity", "New", EntityStatus.ACTIVE);
+                } catch (SQLException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return old;
+            }
+        };
+        EntityCache cache = new EntityCache();
+        racing[0] = new EntityService(new EntityDao(), new Validator(), cache, new PageCache());
+        EntityService reader = new EntityService(slowReads, new Validator(), cache, new PageCache());
+
+        assertEquals("Old", reader.getEntity(id).getDescription());
+        assertEquals("New", racing[0].getEntity(id).getDescription());
+
+        entityService.deleteEntity(id);
+    }
+
+    @Test
+    void testUpdateEntityById_IgnoresStaleCachedVersion() throws Exception {
+        entityService.createEntity("Stale Cached Entity", "First");
+        UUID id = entityService.getAllEntities("Stale Cached Entity", null, null, 1, 10).get(0).getId();
+        assertEquals(0, entityService.getEntity(id).getVersion());
+
+        // Another service, e.g. in another process, updates the row behind this one's cache.
+        new EntityService().updateEntity(id, "Stale Cached Entity", "Second", EntityStatus.ACTIVE);
+
+        entityService.updateEntity(id, "Stale Cached Entity", "Third", EntityStatus.INACTIVE);
+        Entity stored = entityService.getAllEntities("Stale Cached Entity", null, null, 1, 10).get(0);
+        assertEquals("Third", stored.getDescription());
+        assertEquals(2, stored.getVersion());
+        assertEquals(2, entityService.getEntity(id).getVersion());
+
+        entityService.deleteEntity(id);
+        assertThrows(IllegalArgumentException.class,
+                () -> entityService.updateEntity(id, "Stale Cached Entity", "Gone", EntityStatus.ACTIVE));
+    }
+
+    @Test
+    void testUpdateEntityById_WritesWithoutReadingAndDropsCachedRow() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        EntityDao countingReads = new EntityDao() {
+            @Override
+            public Entity findById(UUID entityId) throws SQLException {
+                reads.incrementAndGet();
+                return super.findById(entityId);
+            }
+        };
+        EntityService service = new EntityService(countingReads, new Validator(), new EntityCache(), new PageCache());
+        service.createEntity("Overwritten Entity", "First");
+        UUID id = service.getAllEntities("Overwritten Entity", null, null, 1, 10).get(0).getId();
+        service.getEntity(id);
+        reads.set(0);
+
+        service.updateEntity(id, "Overwritten Entity", "Second", EntityStatus.INACTIVE);
+        assertEquals(0, reads.get());
+
+        Entity fetched = service.getEntity(id);
+        assertEquals(1, reads.get());
+        assertEquals("Second", fetched.getDescription());
+        assertEquals(1, fetched.getVersion());
+
+        service.updateEntity(id, "Overwritten Entity", "Second", EntityStatus.INACTIVE);
+        assertEquals(1, service.getEntity(id).getVersion());
+
+        service.deleteEntity(id);
+    }
+
+    @Test
+    void testWriteBehind_QueuedEditsChainVersions() throws Exception {
+        WriteBehindConfig config = new WriteBehindConfig();
+        config.setMaxDelayMillis(50);
+        try (EntityService queued = new EntityService(config)) {
+            queued.createEntity("Chained Entity", "First");
+            Entity created = queued.getAllEntities("Chained Entity", null, null, 1, 10).get(0);
+
+            queued.updateEntity(created.getId(), "Chained Entity", "Second", EntityStatus.ACTIVE);
+            queued.submitUpdate(created.getId(), "Chained Entity", "Third", EntityStatus.INACTIVE)
+                    .get(5, TimeUnit.SECONDS);
+
+            Entity stored = queued.getAllEntities("Chained Entity", null, null, 1, 10).get(0);
+            assertEquals("Third", stored.getDescription());
+            assertEquals(2, stored.getVersion());
+
+            queued.deleteEntity(created.getId());
+        }
+    }
+
+    @Test
+    void testChangeStatus_DropsCachedEntities() throws Exception {
+        entityService.createEntity("Bulk Cached One", null);
+        entityService.createEntity("Bulk Cached Two", null);
+        List<Entity> created = entityService.getAllEntities("Bulk Cached", null, null, 1, 10);
+        Entity first = entityService.getEntity(created.get(0).getId());
+
+        assertEquals(1, entityService.changeStatus(List.of(first.getId()), EntityStatus.ARCHIVED,
+                BulkProgressListener.NONE));
+        assertEquals(EntityStatus.ARCHIVED, entityService.getEntity(first.getId()).getStatus());
+
+        assertEquals(2, entityService.deleteMatching("Bulk Cached", null, BulkProgressListener.NONE));
+        assertNull(entityService.getEntity(first.getId()));
+        assertEquals(0, entityService.getTotalCount("Bulk Cached", null));
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.service.cache;
+
+import org.example.model.Entity;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        EntityCache cache = new EntityCache(2);
+        Entity first = new Entity("First", null);
+        Entity second = new Entity("Second", null);
+        Entity third = new Entity("Third", null);
+
+        cache.put(first);
+        cache.put(second);
+        assertNotNull(cache.get(first.getId()));
+        cache.put(third);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(first.getId()));
+        assertNull(cache.get(second.getId()));
+        assertNotNull(cache.get(third.getId()));
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void testCachedEntitiesAreCopies() {
+        EntityCache cache = new EntityCache();
+        Entity entity = new Entity("Original", "Description");
+        cache.put(entity);
+
+        entity.setName("Changed after put");
+        Entity cached = cache.get(entity.getId());
+        assertEquals("Original", cached.getName());
+
+        cached.setName("Changed after get");
+        assertEquals("Original", cache.get(entity.getId()).getName());
+    }
+
+    @Test
+    void testStatsAndInvalidation() {
+        EntityCache cache = new EntityCache();
+        Entity entity = new Entity("Stats", null);
+
+        assertNull(cache.get(entity.getId()));
+        cache.put(entity);
+        assertNotNull(cache.get(entity.getId()));
+        cache.invalidate(entity.getId());
+        assertNull(cache.get(entity.getId()));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0, stats.getSize());
+        assertEquals(1.0 / 3, stats.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void testZeroSizeCacheStoresNothing() {
+        EntityCache cache = new EntityCache(0);
+        Entity entity = new Entity("Nothing", null);
+        cache.put(entity);
+        assertNull(cache.get(entity.getId()));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testFillIsDroppedAfterConcurrentWrite() {
+        EntityCache cache = new EntityCache(10);
+        Entity read = new Entity("Read", null);
+
+        long stamp = cache.writeStamp(read.getId());
+        assertTrue(cache.fill(read, stamp));
+
+        stamp = cache.writeStamp(read.getId());
+        Entity written = new Entity(read);
+        written.setName("Written");
+        cache.put(written);
+        assertFalse(cache.fill(read, stamp));
+        assertEquals("Written", cache.get(read.getId()).getName());
+
+        stamp = cache.writeStamp(read.getId());
+        cache.invalidate(read.getId());
+        assertFalse(cache.fill(read, stamp));
+        assertNull(cache.get(read.getId()));
+
+        stamp = cache.writeStamp(read.getId());
+        cache.invalidateAll();
+        assertFalse(cache.fill(read, stamp));
+        assertNull(cache.get(read.getId()));
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.service.cache;
+
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.example.model.Page;
+import org.example.model.PageCursor;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCacheTest {
+
+    private static Page<Entity> page(String... names) {
+        return new Page<>(Arrays.stream(names).map(name -> new Entity(name, null)).toList(), names.length);
+    }
+
+    @Test
+    void testPageIsServedUntilVersionChanges() {
+        PageCache cache = new PageCache();
+        PageKey key = PageKey.offset("abc", EntityStatus.ACTIVE, "name", 2, 10);
+
+        cache.put(key, cache.currentVersion(), page("One", "Two"));
+        Page<Entity> cached = cache.get(PageKey.offset("abc", EntityStatus.ACTIVE, "name", 2, 10));
+        assertNotNull(cached);
+        assertEquals(2, cached.getTotalCount());
+        assertEquals("One", cached.getItems().get(0).getName());
+        assertNull(cache.get(PageKey.offset("abc", EntityStatus.ACTIVE, "name", 3, 10)));
+
+        cache.bumpVersion();
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void testResultReadBeforeWriteIsNotCached() {
+        PageCache cache = new PageCache();
+        PageKey key = PageKey.after(null, null, "createdAt", null, 10);
+
+        long version = cache.currentVersion();
+        cache.bumpVersion();
+        cache.put(key, version, page("Stale"));
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void testKeysetAnchorIsPartOfKey() {
+        PageCache cache = new PageCache();
+        Entity anchor = new Entity("Anchor", null);
+        PageKey afterAnchor = PageKey.after(null, null, "name", PageCursor.of(anchor), 10);
+
+        cache.put(afterAnchor, cache.currentVersion(), page("Next"));
+
+        assertNotNull(cache.get(PageKey.after(null, null, "name", PageCursor.of(anchor), 10)));
+        assertNull(cache.get(PageKey.after(null, null, "name", null, 10)));
+    }
+
+    @Test
+    void testMemoryBoundEvictsLeastRecentlyUsed() {
+        long onePage = PageCache.weigh(page("Entity A"));
+        PageCache cache = new PageCache(onePage * 2);
+        PageKey first = PageKey.offset(null, null, null, 1, 1);
+        PageKey second = PageKey.offset(null, null, null, 2, 1);
+        PageKey third = PageKey.offset(null, null, null, 3, 1);
+
+        cache.put(first, 0, page("Entity A"));
+        cache.put(second, 0, page("Entity B"));
+        assertNotNull(cache.get(first));
+        cache.put(third, 0, page("Entity C"));
+
+        assertNotNull(cache.get(first));
+        assertNull(cache.get(second));
+        assertNotNull(cache.get(third));
+        assertTrue(cache.getWeight() <= onePage * 2);
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void testCachedPagesAreCopies() {
+        PageCache cache = new PageCache();
+        PageKey key = PageKey.offset(null, null, null, 1, 10);
+        cache.put(key, 0, page("Original"));
+
+        List<Entity> items = cache.get(key).getItems();
+        items.get(0).setName("Changed");
+
+        assertEquals("Original", cache.get(key).getItems().get(0).getName());
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.service.importer;
+
+import org.example.dao.DatabaseConnection;
+import org.example.dao.EntityDao;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.example.util.Validator;
+import org.junit.jupiter.api.*;
+
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EntityImporterTest {
+
+    private EntityDao entityDao;
+    private EntityImporter importer;
+
+    @BeforeAll
+    void setupAll() {
+        entityDao = new EntityDao();
+        importer = new EntityImporter(entityDao, new Validator(), 3, 2);
+    }
+
+    @BeforeEach
+    void clearDatabase() throws SQLException {
+        try (var conn = DatabaseConnection.getConnection();
+             var stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM entities");
+        }
+    }
+
+    @Test
+    void testImportCsv() throws Exception {
+        String csv = "name,description,status\n"
+                + "Import One,First row,ACTIVE\n"
+                + "\"Import, Two\",\"Quoted \"\"description\"\"\nover two lines\",inactive\n"
+                + "Import Three,,\n"
+                + "x,too short,ACTIVE\n"
+                + "Import Five,bad status,DELETED\n"
+                + "Import Six,missing column\n";
+
+        ImportReport report = importer.importFrom(new StringReader(csv), ImportFormat.CSV, ImportProgressListener.NONE);
+
+        assertEquals(6, report.getRowsRead());
+        assertEquals(2, report.getImported());
+        assertEquals(4, report.getRejected());
+        List<Long> rejectedLines = new ArrayList<>();
+        report.getRejections().forEach(rejection -> rejectedLines.add(rejection.getLineNumber()));
+        assertEquals(List.of(3L, 6L, 7L, 8L), rejectedLines);
+        assertEquals(2, entityDao.count(null, null));
+
+        List<Entity> imported = entityDao.findAll("Import", null, "name", 0, 10);
+        assertEquals("Import One", imported.get(0).getName());
+        assertEquals("Import Three", imported.get(1).getName());
+        assertNull(imported.get(1).getDescription());
+        assertEquals(EntityStatus.ACTIVE, imported.get(1).getStatus());
+    }
+
+    @Test
+    void testImportJsonLines() throws Exception {
+        String jsonl = "{\"name\": \"Json One\", \"description\": \"Tab\\tand \\u0041\", \"status\": \"ARCHIVED\"}\n"
+                + "\n"
+                + "{\"name\": \"Json Two\", \"description\": null, \"extra\": 5}\n"
+                + "{\"name\": \"Json Three\"\n"
+                + "{\"description\": \"no name\"}\n";
+
+        ImportReport report = importer.importFrom(new StringReader(jsonl), ImportFormat.JSONL, ImportProgressListener.NONE);
+
+        assertEquals(4, report.getRowsRead());
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getRejected());
+        assertEquals(4, report.getRejections().get(0).getLineNumber());
+        assertTrue(report.getRejections().get(0).getReason().startsWith("Malformed JSON"));
+        assertEquals(5, report.getRejections().get(1).getLineNumber());
+
+        Entity first = entityDao.findAll("Json One", null, "name", 0, 1).get(0);
+        assertEquals("Tab\tand A", first.getDescription());
+        assertEquals(EntityStatus.ARCHIVED, first.getStatus());
+    }
+
+    @Test
+    void testImportReportsProgressPerChunk() throws Exception {
+        StringBuilder csv = new StringBuilder("name,description\n");
+        for (int i = 0; i < 20; i++) {
+            csv.append("Bulk Entity ").append(i).append(",Row ").append(i).append('\n');
+        }
+        AtomicLong lastImported = new AtomicLong();
+        List<Long> progress = new ArrayList<>();
+
+        ImportReport report = importer.importFrom(new StringReader(csv.toString()), ImportFormat.CSV,
+                (rowsRead, imported, rejected) -> {
+                    assertTrue(imported >= lastImported.get());
+                    lastImported.set(imported);
+                    progress.add(imported);
+                });
+
+        assertEquals(20, report.getImported());
+        assertEquals(0, report.getRejected());
+        assertEquals(7, progress.size());
+        assertEquals(20L, progress.get(progress.size() - 1));
+        assertEquals(20, entityDao.count("Bulk Entity", null));
+    }
+
+    @Test
+    void testFormatFromFileName() {
+        assertEquals(ImportFormat.CSV, ImportFormat.fromFileName(Path.of("dump.CSV")));
+        assertEquals(ImportFormat.JSONL, ImportFormat.fromFileName(Path.of("dump.jsonl")));
+        assertThrows(IllegalArgumentException.class, () -> ImportFormat.fromFileName(Path.of("dump.xml")));
+        assertThrows(IllegalArgumentException.class, () -> ImportFormat.fromFileName(Path.of("dump.json")));
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.service.writebehind;
+
+import org.example.dao.DatabaseConnection;
+import org.example.dao.EntityDao;
+import org.example.dao.EntityWrite;
+import org.example.model.Entity;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WriteBehindQueueTest {
+
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final AtomicInteger commits = new AtomicInteger();
+    private volatile CountDownLatch gate;
+    private volatile CountDownLatch entered;
+
+    private final EntityDao entityDao = new EntityDao() {
+        @Override
+        public SQLException[] applyAll(List<EntityWrite> writes) throws SQLException {
+            if (entered != null) {
+                entered.countDown();
+            }
+            CountDownLatch latch = gate;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            transactions.incrementAndGet();
+            return super.applyAll(writes);
+        }
+    };
+
+    @BeforeEach
+    void clearDatabase() throws SQLException {
+        try (var conn = DatabaseConnection.getConnection();
+             var stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM entities");
+        }
+        transactions.set(0);
+        commits.set(0);
+        gate = null;
+        entered = null;
+    }
+
+    private WriteBehindQueue queue(long maxDelayMillis) {
+        WriteBehindConfig config = new WriteBehindConfig();
+        config.setMaxDelayMillis(maxDelayMillis);
+        return new WriteBehindQueue(entityDao, config, commits::incrementAndGet);
+    }
+
+    @Test
+    void testBurstIsCommittedInFewTransactions() throws Exception {
+        try (WriteBehindQueue queue = queue(50)) {
+            List<CompletableFuture<Void>> acks = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                acks.add(queue.submit(EntityWrite.insert(new Entity("Queued " + i, null))));
+            }
+            CompletableFuture.allOf(acks.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+            assertEquals(200, entityDao.count(null, null));
+            assertTrue(transactions.get() < 10, "transactions: " + transactions.get());
+            assertEquals(transactions.get(), commits.get());
+        }
+    }
+
+    @Test
+    void testPendingWriteIsVisibleUntilCommitted() throws Exception {
+        gate = new CountDownLatch(1);
+        try (WriteBehindQueue queue = queue(0)) {
+            Entity entity = new Entity("Pending Entity", null);
+            CompletableFuture<Void> ack = queue.submit(EntityWrite.insert(entity));
+
+            assertSame(entity, queue.pending(entity.getId()).getEntity());
+            assertFalse(ack.isDone());
+            assertNull(entityDao.findById(entity.getId()));
+
+            gate.countDown();
+            queue.awaitCommitted();
+            assertTrue(ack.isDone());
+            assertNull(queue.pending(entity.getId()));
+            assertNotNull(entityDao.findById(entity.getId()));
+        }
+    }
+
+    @Test
+    void testConstraintViolationFailsOnlyThatWrite() throws Exception {
+        Entity existing = new Entity("Existing Entity", null);
+        entityDao.save(existing);
+        Entity duplicate = new Entity("Duplicate Entity", null);
+        duplicate.setId(existing.getId());
+
+        gate = new CountDownLatch(1);
+        try (WriteBehindQueue queue = queue(50)) {
+            CompletableFuture<Void> first = queue.submit(EntityWrite.insert(new Entity("First Entity", null)));
+            CompletableFuture<Void> failing = queue.submit(EntityWrite.insert(duplicate));
+            CompletableFuture<Void> last = queue.submit(EntityWrite.delete(existing.getId()));
+            gate.countDown();
+
+            first.get(5, TimeUnit.SECONDS);
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(SQLException.class, failure.getCause());
+            last.get(5, TimeUnit.SECONDS);
+            assertEquals(1, transactions.get());
+            assertEquals(1, entityDao.count(null, null));
+        }
+    }
+
+    @Test
+    void testCloseCommitsQueuedWrites() throws Exception {
+        gate = new CountDownLatch(1);
+        WriteBehindQueue queue = queue(0);
+        List<CompletableFuture<Void>> acks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            acks.add(queue.submit(EntityWrite.insert(new Entity("Closing " + i, null))));
+        }
+        gate.countDown();
+        queue.close();
+
+        acks.forEach(ack -> assertTrue(ack.isDone() && !ack.isCompletedExceptionally()));
+        assertEquals(20, entityDao.count(null, null));
+        assertThrows(IllegalStateException.class, () -> queue.submit(EntityWrite.delete(UUID.randomUUID())));
+    }
+
+    @Test
+    void testCloseWaitsForGroupBlockedOnWriterConnection() throws Exception {
+        entered = new CountDownLatch(1);
+        WriteBehindQueue queue = queue(0);
+        List<CompletableFuture<Void>> acks = new ArrayList<>();
+        Thread closer;
+        // A bulk operation holds the only writer connection while the group waits for it.
+        try (Connection held = DatabaseConnection.getWriteDataSource().getConnection()) {
+            for (int i = 0; i < 20; i++) {
+                acks.add(queue.submit(EntityWrite.insert(new Entity("Blocked " + i, null))));
+            }
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            closer = new Thread(queue::close);
+            closer.start();
+            Thread.sleep(200);
+            assertTrue(closer.isAlive());
+        }
+        closer.join(5_000);
+
+        assertFalse(closer.isAlive());
+        acks.forEach(ack -> assertTrue(ack.isDone() && !ack.isCompletedExceptionally()));
+        assertEquals(20, entityDao.count(null, null));
+    }
+}
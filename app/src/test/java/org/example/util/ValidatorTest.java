@@ -2,6 +2,8 @@ package org.example.util;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ValidatorTest {
@@ -89,4 +91,38 @@ class ValidatorTest {
         assertThrows(IllegalArgumentException.class,
                 () -> validator.validateDescription("A".repeat(256))); // 256 символов
     }
-}
\ No newline at end of file
+
+    @Test
+    void testNameCharacterTableMatchesOriginalPattern() {
+        for (char c = 0; c < 512; c++) {
+            String name = "ab" + c;
+            boolean allowed = name.matches("^[a-zA-Z0-9\\s\\-._]*$");
+            assertEquals(allowed, validator.checkName(name) == null, "character " + (int) c);
+        }
+        assertEquals(Violation.NAME_CHARACTERS, validator.checkName("Имя сущности"));
+        assertNull(validator.checkName("tab\tand_dot.ok"));
+    }
+
+    @Test
+    void testCheckReturnsFirstViolationWithoutThrowing() {
+        assertNull(validator.check("Valid Name", null));
+        assertEquals(Violation.NAME_EMPTY, validator.check("   ", "A".repeat(256)));
+        assertEquals(Violation.NAME_LENGTH, validator.check("AB", null));
+        assertEquals(Violation.DESCRIPTION_LENGTH, validator.check("Valid Name", "A".repeat(256)));
+        assertEquals("Name must be between 3 and 50 characters", Violation.NAME_LENGTH.getMessage());
+    }
+
+    @Test
+    void testValidateAllReportsPerRowViolations() {
+        List<String[]> rows = List.of(
+                new String[]{"First Row", "ok"},
+                new String[]{"Bad@Row", null},
+                new String[]{null, null},
+                new String[]{"Last Row", "A".repeat(300)});
+
+        Violation[] violations = validator.validateAll(rows, row -> row[0], row -> row[1]);
+
+        assertArrayEquals(new Violation[]{null, Violation.NAME_CHARACTERS, Violation.NAME_EMPTY,
+                Violation.DESCRIPTION_LENGTH}, violations);
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.view;
+
+import org.example.dao.CancellationToken;
+import org.example.model.Entity;
+import org.example.model.Page;
+import org.example.model.PageCursor;
+import org.junit.jupiter.api.Test;
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualTableModelTest {
+
+    private static final int ROWS = 10_000;
+
+    private final List<Entity> rows = new ArrayList<>();
+    private final List<PageCursor> afters = new ArrayList<>();
+    private final List<Integer> offsets = new ArrayList<>();
+
+    VirtualTableModelTest() {
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Entity(String.format("Entity %05d", i), null));
+        }
+    }
+
+    private VirtualTableModel.BlockLoader loader() {
+        return (after, offset, limit, token) -> {
+            afters.add(after);
+            offsets.add(offset);
+            int from = after == null ? offset : indexOf(after) + 1;
+            List<Entity> items = rows.subList(from, Math.min(from + limit, rows.size()));
+            return CompletableFuture.completedFuture(new Page<>(new ArrayList<>(items), rows.size()));
+        };
+    }
+
+    private int indexOf(PageCursor cursor) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).getId().equals(cursor.getId())) {
+                return i;
+            }
+        }
+        throw new AssertionError("Unknown cursor");
+    }
+
+    private static VirtualTableModel model() {
+        return new VirtualTableModel(Runnable::run, error -> fail(error));
+    }
+
+    @Test
+    void testReportsTotalRowCountAfterFirstBlock() {
+        VirtualTableModel model = model();
+        model.reload(loader());
+
+        assertEquals(ROWS, model.getRowCount());
+        assertEquals("Entity 00000", model.getValueAt(0, 1));
+    }
+
+    @Test
+    void testNeighboursOfRequestedBlockArePrefetched() {
+        VirtualTableModel model = model();
+        model.reload(loader());
+
+        // Block 0 was asked for, block 1 prefetched; the prefetch does not pull in block 2.
+        assertEquals(2, model.getLoadedBlockCount());
+        assertEquals(List.of(0, VirtualTableModel.BLOCK_SIZE), offsets);
+
+        assertEquals("Entity 00200", model.getValueAt(VirtualTableModel.BLOCK_SIZE, 1));
+        assertEquals(2, offsets.size());
+
+        int distant = 30 * VirtualTableModel.BLOCK_SIZE;
+        model.getValueAt(distant, 1);
+        assertEquals(List.of(distant, distant + VirtualTableModel.BLOCK_SIZE, distant - VirtualTableModel.BLOCK_SIZE),
+                offsets.subList(2, 5));
+        assertEquals("Entity 05800", model.getValueAt(distant - VirtualTableModel.BLOCK_SIZE, 1));
+        assertEquals("Entity 06200", model.getValueAt(distant + VirtualTableModel.BLOCK_SIZE, 1));
+    }
+
+    @Test
+    void testNextBlockIsReadByKeysetAndDistantBlockByOffset() {
+        VirtualTableModel model = model();
+        model.reload(loader());
+
+        int next = 2 * VirtualTableModel.BLOCK_SIZE;
+        assertEquals("Entity 00400", model.getValueAt(next, 1));
+        assertEquals(PageCursor.of(rows.get(next - 1)), afters.get(2));
+
+        int distant = 30 * VirtualTableModel.BLOCK_SIZE + 7;
+        assertEquals("Entity 06007", model.getValueAt(distant, 1));
+        assertNull(afters.get(4));
+        assertEquals(30 * VirtualTableModel.BLOCK_SIZE, offsets.get(4));
+    }
+
+    @Test
+    void testKeepsBoundedWindowOfBlocks() {
+        VirtualTableModel model = model();
+        model.reload(loader());
+
+        for (int row = 0; row < ROWS; row += VirtualTableModel.BLOCK_SIZE) {
+            assertNotNull(model.getEntityAt(row));
+        }
+        assertEquals(VirtualTableModel.MAX_BLOCKS, model.getLoadedBlockCount());
+
+        // Blocks 0 and 1 were evicted; block 0 is fetched again and block 1 prefetched.
+        int loads = offsets.size();
+        model.getValueAt(0, 1);
+        assertEquals(loads + 2, offsets.size());
+    }
+
+    @Test
+    void testUnloadedRowShowsPlaceholderAndReloadDropsStaleResults() {
+        List<CompletableFuture<Page<Entity>>> pending = new ArrayList<>();
+        List<CancellationToken> tokens = new ArrayList<>();
+        VirtualTableModel model = model();
+        model.reload((after, offset, limit, token) -> {
+            CompletableFuture<Page<Entity>> future = new CompletableFuture<>();
+            pending.add(future);
+            tokens.add(token);
+            return future;
+        });
+
+        assertEquals(0, model.getRowCount());
+        pending.get(0).complete(new Page<>(new ArrayList<>(rows.subList(0, VirtualTableModel.BLOCK_SIZE)), ROWS));
+        assertEquals(ROWS, model.getRowCount());
+        assertEquals(VirtualTableModel.LOADING, model.getValueAt(5_000, 1));
+        assertNull(model.getValueAt(5_000, 2));
+
+        model.reload(loader());
+        assertTrue(tokens.get(1).isCancelled());
+        assertTrue(tokens.get(2).isCancelled());
+        pending.get(2).complete(new Page<>(List.of(new Entity("Stale", null)), 1));
+        assertEquals(ROWS, model.getRowCount());
+        assertEquals("Entity 05000", model.getValueAt(5_000, 1));
+    }
+
+    @Test
+    void testDataReloadKeepsRowsAndReportsOnlyChanges() {
+        VirtualTableModel model = model();
+        model.reload(loader());
+        int distant = 10 * VirtualTableModel.BLOCK_SIZE;
+        model.getValueAt(distant, 1);
+        List<TableModelEvent> events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+
+        Entity renamed = new Entity(rows.get(3));
+        renamed.setName("Renamed");
+        rows.set(3, renamed);
+        rows.add(new Entity("Entity 99999", null));
+        model.reload();
+
+        assertEquals(2, events.size());
+        assertEquals(TableModelEvent.UPDATE, events.get(0).getType());
+        assertEquals(3, events.get(0).getFirstRow());
+        assertEquals(3, events.get(0).getLastRow());
+        assertEquals(TableModelEvent.INSERT, events.get(1).getType());
+        assertEquals(ROWS, events.get(1).getFirstRow());
+        assertEquals("Renamed", model.getValueAt(3, 1));
+
+        // Block 10 is stale: it is still loaded and is read again (with its stale
+        // neighbours) when rendered.
+        int loads = offsets.size();
+        assertEquals(5, model.getLoadedBlockCount());
+        assertEquals("Entity 02000", model.getValueAt(distant, 1));
+        assertEquals(loads + 3, offsets.size());
+    }
+
+    @Test
+    void testMidBlockInsertAndDeleteKeepSelectionOnSameEntity() {
+        VirtualTableModel model = model();
+        model.reload(loader());
+        JTable table = new JTable(model);
+        table.setRowSelectionInterval(150, 150);
+        Entity selected = model.getEntityAt(150);
+        List<TableModelEvent> events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+
+        rows.add(10, new Entity("Inserted", null));
+        model.reload();
+
+        // Block 0 reports the insert where it happened and drops the row pushed into
+        // block 1, which reports it again as its first row. changes() lists each event's
+        // first row, negated for a delete.
+        assertEquals(List.of(-199, 10, ROWS, -399, 200), changes(events));
+        assertEquals(ROWS + 1, model.getRowCount());
+        assertEquals("Inserted", model.getValueAt(10, 1));
+        assertEquals(151, table.getSelectedRow());
+        assertEquals(selected.getId(), model.getEntityAt(table.getSelectedRow()).getId());
+
+        events.clear();
+        rows.remove(20);
+        rows.remove(30);
+        model.reload();
+
+        assertEquals(List.of(-31, -20, 198, 199, -(ROWS - 1), -201, -200, 398, 399), changes(events));
+        assertEquals(ROWS - 1, model.getRowCount());
+        assertEquals(149, table.getSelectedRow());
+        assertEquals(selected.getId(), model.getEntityAt(table.getSelectedRow()).getId());
+    }
+
+    private static List<Integer> changes(List<TableModelEvent> events) {
+        List<Integer> changes = new ArrayList<>();
+        for (TableModelEvent event : events) {
+            assertNotEquals(TableModelEvent.UPDATE, event.getType());
+            changes.add(event.getType() == TableModelEvent.DELETE ? -event.getFirstRow() : event.getFirstRow());
+        }
+        return changes;
+    }
+}
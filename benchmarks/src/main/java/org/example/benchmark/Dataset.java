@@ -0,0 +1,122 @@
+package org.example.benchmark;
+
+import org.example.dao.DatabaseConnection;
+import org.example.dao.EntityDao;
+import org.example.dao.SqliteProfile;
+import org.example.dao.StorageConfig;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Generated benchmark databases. Row i is a pure function of i (id, name, status and
+ * timestamps), so benchmarks can pick existing ids without reading them, and every run
+ * measures the same data. Each size is generated once, into a temporary file that is
+ * renamed when complete, and reused by later runs.
+ */
+public final class Dataset {
+    public static final String DIRECTORY_PROPERTY = "bench.data.dir";
+
+    private static final int GENERATE_CHUNK = 50_000;
+    // Names are two of these words plus the row number; a word is in about 1 name in 8.
+    private static final String[] WORDS = {
+            "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel",
+            "india", "juliet", "kilo", "lima", "mike", "november", "oscar", "papa"
+    };
+    private static final long START_MILLIS = 1_672_531_200_000L;
+    private static final long YEAR_MILLIS = 365L * 24 * 60 * 60 * 1000;
+    private static final long MONTH_MILLIS = 30L * 24 * 60 * 60 * 1000;
+
+    private Dataset() {}
+
+    // Points DatabaseConnection at the dataset with this many rows, in the application's
+    // default storage configuration. Close with DatabaseConnection.closeConnection().
+    public static void open(int rows) throws IOException, SQLException {
+        Path directory = Paths.get(System.getProperty(DIRECTORY_PROPERTY, "target/datasets"));
+        Path file = directory.resolve("entities-" + rows + ".db");
+        if (!Files.exists(file)) {
+            Files.createDirectories(directory);
+            generate(directory.resolve(file.getFileName() + ".tmp"), file, rows);
+        }
+        use(file, new StorageConfig().getProfile());
+    }
+
+    public static UUID id(long row) {
+        long most = mix(row);
+        long least = mix(~row);
+        // Version 4 / IETF variant bits, like UUID.randomUUID().
+        return new UUID((most & ~0xF000L) | 0x4000L, (least & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+    }
+
+    public static Entity row(long row) {
+        String name = WORDS[(int) (row % WORDS.length)] + " " + WORDS[(int) (row / WORDS.length % WORDS.length)] + " " + row;
+        int bucket = (int) (row % 10);
+        EntityStatus status = bucket < 7 ? EntityStatus.ACTIVE : bucket < 9 ? EntityStatus.INACTIVE : EntityStatus.ARCHIVED;
+        long createdAt = START_MILLIS + Math.floorMod(row * 7_919L * 1_000, YEAR_MILLIS);
+        long updatedAt = createdAt + Math.floorMod(row * 104_729L * 1_000, MONTH_MILLIS);
+        return new Entity(id(row), name, "Generated entity number " + row, status, createdAt, updatedAt);
+    }
+
+    private static void generate(Path temporary, Path file, int rows) throws IOException, SQLException {
+        deleteWithJournal(temporary);
+        // The load can simply be redone if it is interrupted, so nothing is synced.
+        use(temporary, SqliteProfile.THROUGHPUT);
+        try {
+            try (Connection conn = DatabaseConnection.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                // Drop the sample rows of the initial migration.
+                stmt.executeUpdate("DELETE FROM entities");
+            }
+
+            EntityDao dao = new EntityDao();
+            long start = System.currentTimeMillis();
+            for (int from = 0; from < rows; from += GENERATE_CHUNK) {
+                int to = Math.min(from + GENERATE_CHUNK, rows);
+                List<Entity> chunk = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    chunk.add(row(i));
+                }
+                dao.saveAll(chunk, EntityDao.DEFAULT_BATCH_CHUNK_SIZE);
+                System.out.printf("Generating %s: %,d of %,d rows (%d s)%n",
+                        file.getFileName(), to, rows, (System.currentTimeMillis() - start) / 1000);
+            }
+        } finally {
+            // The last connection to close checkpoints the WAL into the database file.
+            DatabaseConnection.closeConnection();
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void use(Path file, SqliteProfile profile) {
+        DatabaseConnection.closeConnection();
+        StorageConfig config = new StorageConfig();
+        config.setUrl("jdbc:sqlite:" + file);
+        config.setProfile(profile);
+        DatabaseConnection.configure(config);
+    }
+
+    private static void deleteWithJournal(Path file) throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(Paths.get(file + "-wal"));
+        Files.deleteIfExists(Paths.get(file + "-shm"));
+    }
+
+    // SplitMix64 finalizer: spreads consecutive row numbers over the whole id space.
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
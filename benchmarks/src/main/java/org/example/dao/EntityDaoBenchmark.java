@@ -0,0 +1,133 @@
+package org.example.dao;
+
+import org.example.benchmark.Dataset;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EntityDao against generated datasets. Parameters live in the states a benchmark uses, so
+ * findById and save run once per dataset size, count once per filter and findAll once per
+ * filter and sort order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityDaoBenchmark {
+    static final int PAGE_SIZE = 50;
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"10000", "1000000", "10000000"})
+        public int rows;
+
+        EntityDao dao;
+        long lastGeneratedRowid;
+
+        @Setup(Level.Trial)
+        public void open() throws Exception {
+            Dataset.open(rows);
+            dao = new EntityDao();
+            lastGeneratedRowid = maxRowid();
+        }
+
+        // Rows inserted by save() are removed, so the dataset stays the same for the next run.
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            try (Connection conn = DatabaseConnection.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement("DELETE FROM entities WHERE rowid > ?")) {
+                pstmt.setLong(1, lastGeneratedRowid);
+                pstmt.executeUpdate();
+            }
+            DatabaseConnection.closeConnection();
+        }
+
+        private long maxRowid() throws SQLException {
+            try (Connection conn = DatabaseConnection.getConnection();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT coalesce(max(rowid), 0) FROM entities")) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    // Existing ids in random order; more of them than a page cache would ever hold.
+    @State(Scope.Thread)
+    public static class Ids {
+        private static final int COUNT = 4096;
+        final UUID[] ids = new UUID[COUNT];
+        int next;
+
+        @Setup(Level.Trial)
+        public void pick(Data data) {
+            Random random = new Random(42);
+            for (int i = 0; i < COUNT; i++) {
+                ids[i] = Dataset.id(random.nextInt(data.rows));
+            }
+        }
+
+        UUID next() {
+            UUID id = ids[next];
+            next = (next + 1) % COUNT;
+            return id;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Filter {
+        // No search, a LIKE search (shorter than a trigram) and a full-text search.
+        @Param({"", "7", "delta"})
+        public String search;
+
+        @Param({"", "ACTIVE"})
+        public String status;
+
+        EntityStatus statusFilter;
+
+        @Setup(Level.Trial)
+        public void parse() {
+            statusFilter = status.isEmpty() ? null : EntityStatus.valueOf(status);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Sort {
+        @Param({"name", "createdAt", "updatedAt"})
+        public String sortBy;
+    }
+
+    @Benchmark
+    public Entity findById(Data data, Ids ids) throws SQLException {
+        return data.dao.findById(ids.next());
+    }
+
+    @Benchmark
+    public Entity save(Data data) throws SQLException {
+        Entity entity = new Entity("Benchmark save", "Inserted by EntityDaoBenchmark");
+        data.dao.save(entity);
+        return entity;
+    }
+
+    @Benchmark
+    public int count(Data data, Filter filter) throws SQLException {
+        return data.dao.count(filter.search, filter.statusFilter);
+    }
+
+    // First page, as the table shows it after a filter change.
+    @Benchmark
+    public List<Entity> findAll(Data data, Filter filter, Sort sort) throws SQLException {
+        return data.dao.findAll(filter.search, filter.statusFilter, sort.sortBy, 0, PAGE_SIZE);
+    }
+}
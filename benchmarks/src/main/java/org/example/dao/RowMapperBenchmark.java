@@ -0,0 +1,104 @@
+package org.example.dao;
+
+import org.example.benchmark.Dataset;
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per row of turning a result set row into an Entity. mapRows is EntityRowMapper.map;
+ * mapRowsByName is the mapping EntityDao used before it, kept here as the baseline: columns
+ * looked up by name, a default-constructed Entity, and both timestamps converted up front.
+ * mapRowsWithDates also reads both LocalDateTime views, which EntityRowMapper leaves lazy.
+ * scanRows steps through the same rows without mapping them; the difference to it is the
+ * mapping itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMapperBenchmark {
+    static final int ROWS_PER_OPERATION = 1000;
+
+    private Connection conn;
+    private PreparedStatement pstmt;
+
+    @Setup(Level.Trial)
+    public void open() throws Exception {
+        Dataset.open(10_000);
+        conn = DatabaseConnection.getReadDataSource().getConnection();
+        pstmt = conn.prepareStatement("SELECT " + EntityQuery.COLUMNS + " FROM entities LIMIT " + ROWS_PER_OPERATION);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        pstmt.close();
+        conn.close();
+        DatabaseConnection.closeConnection();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_OPERATION)
+    public void mapRows(Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(EntityRowMapper.map(rs));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_OPERATION)
+    public void mapRowsWithDates(Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                Entity entity = EntityRowMapper.map(rs);
+                blackhole.consume(entity.getCreatedAt());
+                blackhole.consume(entity.getUpdatedAt());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_OPERATION)
+    public void mapRowsByName(Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(mapByName(rs));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_OPERATION)
+    public void scanRows(Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getRow());
+            }
+        }
+    }
+
+    private static Entity mapByName(ResultSet rs) throws SQLException {
+        Entity entity = new Entity();
+        entity.setId(UuidBytes.fromBytes(rs.getBytes("id")));
+        entity.setName(rs.getString("name"));
+        entity.setDescription(rs.getString("description"));
+        entity.setStatus(EntityStatus.fromCode(rs.getInt("status")));
+        entity.setCreatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(rs.getLong("created_at")), ZoneId.systemDefault()));
+        entity.setUpdatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(rs.getLong("updated_at")), ZoneId.systemDefault()));
+        return entity;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.service;
+
+import org.example.benchmark.Dataset;
+import org.example.dao.DatabaseConnection;
+import org.example.model.Entity;
+import org.example.model.Page;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EntityService on top of the DAO: validation, the entity and page caches, and cache
+ * maintenance on writes. getEntity cycles through more ids than the entity cache holds, so
+ * it measures misses; getCachedEntity and getFirstPage measure hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityServiceBenchmark {
+    private static final int IDS = 4096;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private EntityService service;
+    private final UUID[] ids = new UUID[IDS];
+    private int next;
+    private long lastGeneratedRowid;
+
+    @Setup(Level.Trial)
+    public void open() throws Exception {
+        Dataset.open(rows);
+        service = new EntityService();
+        Random random = new Random(42);
+        for (int i = 0; i < IDS; i++) {
+            ids[i] = Dataset.id(random.nextInt(rows));
+        }
+        try (Connection conn = DatabaseConnection.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT coalesce(max(rowid), 0) FROM entities")) {
+            lastGeneratedRowid = rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        service.close();
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("DELETE FROM entities WHERE rowid > ?")) {
+            pstmt.setLong(1, lastGeneratedRowid);
+            pstmt.executeUpdate();
+        }
+        DatabaseConnection.closeConnection();
+    }
+
+    @Benchmark
+    public Entity getEntity() throws SQLException {
+        UUID id = ids[next];
+        next = (next + 1) % IDS;
+        return service.getEntity(id);
+    }
+
+    @Benchmark
+    public Entity getCachedEntity() throws SQLException {
+        return service.getEntity(ids[0]);
+    }
+
+    @Benchmark
+    public Page<Entity> getFirstPage() throws SQLException {
+        return service.getPage(null, null, "createdAt", 1, 50);
+    }
+
+    @Benchmark
+    public void createEntity() throws Exception {
+        service.createEntity("Benchmark create", "Inserted by EntityServiceBenchmark");
+    }
+}
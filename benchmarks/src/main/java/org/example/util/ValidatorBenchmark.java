@@ -0,0 +1,57 @@
+package org.example.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The name check of Validator. regexName is the earlier implementation, kept here as the
+ * baseline: String.matches compiles the pattern on every call and a failure is reported by
+ * throwing. validateName is the current throwing API, checkName the non-throwing one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({"Quarterly report 2024", "Quarterly report #2024"})
+    public String name;
+
+    private final Validator validator = new Validator();
+
+    @Benchmark
+    public boolean regexName() {
+        try {
+            if (name == null || name.trim().isEmpty()) {
+                throw new IllegalArgumentException("Name cannot be empty");
+            }
+            if (name.length() < 3 || name.length() > 50) {
+                throw new IllegalArgumentException("Name must be between 3 and 50 characters");
+            }
+            if (!name.matches("^[a-zA-Z0-9\\s\\-._]*$")) {
+                throw new IllegalArgumentException("Name contains invalid characters");
+            }
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean validateName() {
+        try {
+            validator.validateName(name);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public Violation checkName() {
+        return validator.checkName(name);
+    }
+}
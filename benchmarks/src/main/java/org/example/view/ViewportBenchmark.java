@@ -0,0 +1,55 @@
+package org.example.view;
+
+import org.example.model.Entity;
+import org.example.model.EntityStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One repaint of a 40-row table viewport: every visible cell is asked for its value.
+ * formatCells formats the cell text on each call, as getValueAt did before rows were held
+ * as EntityRow; cachedCells reads the text EntityRow formatted when the row was loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewportBenchmark {
+    static final int VISIBLE_ROWS = 40;
+
+    private final Entity[] entities = new Entity[VISIBLE_ROWS];
+    private final EntityRow[] rows = new EntityRow[VISIBLE_ROWS];
+
+    @Setup(Level.Trial)
+    public void load() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < VISIBLE_ROWS; i++) {
+            entities[i] = new Entity(new UUID(i, i), "Entity " + i, "Description of entity " + i,
+                    EntityStatus.ACTIVE, now - i * 60_000L, now);
+            rows[i] = new EntityRow(entities[i]);
+        }
+    }
+
+    @Benchmark
+    public void formatCells(Blackhole blackhole) {
+        for (Entity entity : entities) {
+            for (int column = 0; column < EntityRow.COLUMN_NAMES.length; column++) {
+                blackhole.consume(EntityRow.columnValue(entity, column));
+            }
+        }
+    }
+
+    @Benchmark
+    public void cachedCells(Blackhole blackhole) {
+        for (EntityRow row : rows) {
+            for (int column = 0; column < EntityRow.COLUMN_NAMES.length; column++) {
+                blackhole.consume(row.getCell(column));
+            }
+        }
+    }
+}
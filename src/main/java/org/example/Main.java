@@ -1,20 +0,0 @@
-package org.example;
-
-import org.example.view.MainFrame;
-
-import javax.swing.*;
-
-public class Main {
-    public static void main(String[] args) {
-        try {
-            UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        SwingUtilities.invokeLater(() -> {
-            MainFrame frame = new MainFrame();
-            frame.setVisible(true);
-        });
-    }
-}
\ No newline at end of file
@@ -1,56 +0,0 @@
-package org.example.model;
-
-import java.time.LocalDateTime;
-import java.util.UUID;
-
-public class Entity {
-    private UUID id;
-    private String name;
-    private String description;
-    private EntityStatus status;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
-
-    public Entity() {
-        this.id = UUID.randomUUID();
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
-        this.status = EntityStatus.ACTIVE;
-    }
-
-    public Entity(String name, String description) {
-        this();
-        this.name = name;
-        this.description = description;
-    }
-
-    public UUID getId() { return id; }
-    public void setId(UUID id) { this.id = id; }
-
-    public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
-
-    public String getDescription() { return description; }
-    public void setDescription(String description) { this.description = description; }
-
-    public EntityStatus getStatus() { return status; }
-    public void setStatus(EntityStatus status) { this.status = status; }
-
-    public LocalDateTime getCreatedAt() { return createdAt; }
-    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
-
-    public LocalDateTime getUpdatedAt() { return updatedAt; }
-    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
-
-    @Override
-    public String toString() {
-        return "Entity{" +
-                "id=" + id +
-                ", name='" + name + '\'' +
-                ", description='" + description + '\'' +
-                ", status=" + status +
-                ", createdAt=" + createdAt +
-                ", updatedAt=" + updatedAt +
-                '}';
-    }
-}
@@ -1,7 +0,0 @@
-package org.example.model;
-
-public enum EntityStatus {
-    ACTIVE,
-    INACTIVE,
-    ARCHIVED
-}
\ No newline at end of file